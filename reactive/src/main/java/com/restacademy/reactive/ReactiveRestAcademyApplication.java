@@ -0,0 +1,20 @@
+package com.restacademy.reactive;
+
+import com.restacademy.config.JwtUtil;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Reactive variant of the RestAcademy user API (WebFlux on Netty + R2DBC)
+ * Serves the same /api/v1/users contract as the servlet application with a handful of event-loop threads.
+ */
+@SpringBootApplication
+@Import(JwtUtil.class) // shared with the servlet application, outside this package's component scan
+public class ReactiveRestAcademyApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveRestAcademyApplication.class, args);
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.restacademy.reactive.config;
+
+import com.restacademy.config.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Reactive JWT Authentication Filter
+ * Equivalent of the servlet {@code JwtAuthenticationFilter}: validates the Bearer token, loads the user
+ * without blocking and exposes the authentication through the Reactor context instead of a thread-local.
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationWebFilter.class);
+
+    private final JwtUtil jwtUtil;
+    private final ReactiveUserDetailsService userDetailsService;
+
+    public JwtAuthenticationWebFilter(JwtUtil jwtUtil, ReactiveUserDetailsService userDetailsService) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        String jwt = authorizationHeader.substring(7);
+        String username;
+        try {
+            username = jwtUtil.extractUsername(jwt);
+        } catch (Exception e) {
+            log.error("Error extracting username from JWT: {}", e.getMessage());
+            return chain.filter(exchange);
+        }
+
+        // An unknown user or invalid token continues unauthenticated, like the servlet filter
+        return userDetailsService.findByUsername(username)
+            .onErrorResume(UsernameNotFoundException.class, e -> Mono.empty())
+            .filter(userDetails -> jwtUtil.validateToken(jwt, userDetails))
+            .map(userDetails -> Optional.<Authentication>of(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())))
+            .defaultIfEmpty(Optional.empty())
+            .flatMap(authentication -> authentication
+                .map(auth -> chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)))
+                .orElseGet(() -> chain.filter(exchange)));
+    }
+}
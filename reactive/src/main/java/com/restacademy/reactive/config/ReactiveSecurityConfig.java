@@ -0,0 +1,80 @@
+package com.restacademy.reactive.config;
+
+import com.restacademy.config.JwtUtil;
+import com.restacademy.reactive.repository.ReactiveUserRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Security Configuration for JWT authentication on WebFlux
+ * Same public endpoints and stateless model as the servlet {@code SecurityConfig}.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public ReactiveUserDetailsService userDetailsService(ReactiveUserRepository userRepository) {
+        return username -> userRepository.findByEmail(username)
+            .switchIfEmpty(Mono.error(() -> new UsernameNotFoundException("User not found with email: " + username)))
+            .map(user -> User.withUsername(user.getEmail())
+                .password(user.getPassword() != null ? user.getPassword() : "")
+                .roles("USER")
+                .build());
+    }
+
+    /**
+     * Checks passwords on the bounded elastic scheduler so BCrypt never runs on an event-loop thread
+     */
+    @Bean
+    public ReactiveAuthenticationManager authenticationManager(ReactiveUserDetailsService userDetailsService,
+                                                               PasswordEncoder passwordEncoder) {
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+            new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        return authenticationManager;
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtUtil jwtUtil,
+                                                         ReactiveUserDetailsService userDetailsService) {
+        return http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .authorizeExchange(exchange -> exchange
+                .pathMatchers("/api/v1/auth/**").permitAll()
+                .pathMatchers("/actuator/health").permitAll()
+                // Swagger/OpenAPI endpoints
+                .pathMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**", "/webjars/**").permitAll()
+                // All other endpoints require authentication
+                .anyExchange().authenticated()
+            )
+            // Unauthenticated requests get 403 like the servlet application
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+            .addFilterAt(new JwtAuthenticationWebFilter(jwtUtil, userDetailsService), SecurityWebFiltersOrder.AUTHENTICATION)
+            .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.restacademy.reactive.controller;
+
+import com.restacademy.config.JwtUtil;
+import com.restacademy.dto.LoginRequest;
+import com.restacademy.dto.LoginResponse;
+import com.restacademy.reactive.repository.ReactiveUserRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Authentication Controller
+ * Issues the same JWTs as the servlet application (shared {@link JwtUtil} and secret)
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+@Tag(name = "Authentication (reactive)", description = "Login for the reactive user API")
+public class ReactiveAuthController {
+
+    private final ReactiveAuthenticationManager authenticationManager;
+    private final ReactiveUserRepository userRepository;
+    private final JwtUtil jwtUtil;
+
+    @Autowired
+    public ReactiveAuthController(ReactiveAuthenticationManager authenticationManager,
+                                  ReactiveUserRepository userRepository, JwtUtil jwtUtil) {
+        this.authenticationManager = authenticationManager;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+    }
+
+    /**
+     * User login endpoint
+     * @param loginRequest login credentials
+     * @return JWT token and user info
+     */
+    @PostMapping("/login")
+    @Operation(summary = "Login user", description = "Authenticate user and return JWT token")
+    public Mono<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        return authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()))
+            .flatMap(authentication -> userRepository.findByEmail(authentication.getName()))
+            .<ResponseEntity<?>>map(user -> ResponseEntity.ok(new LoginResponse(
+                jwtUtil.generateToken(user.getEmail()),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName()
+            )))
+            .onErrorResume(BadCredentialsException.class, e -> Mono.just(
+                ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password")));
+    }
+}
@@ -0,0 +1,196 @@
+package com.restacademy.reactive.controller;
+
+import com.restacademy.dto.DepartmentCountResponse;
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.dto.UserPageResponse;
+import com.restacademy.dto.UserUpdateRequest;
+import com.restacademy.reactive.dto.UserResponse;
+import com.restacademy.reactive.service.ReactiveUserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive User Controller
+ * Same /api/v1/users contract as the servlet {@code UserController}. List endpoints return a {@link Flux}:
+ * with {@code Accept: application/x-ndjson} or {@code text/event-stream} users are written one by one as
+ * the client reads them, and slow clients slow down the database fetch instead of buffering the result.
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+@Tag(name = "User Management (reactive)", description = "WebFlux + R2DBC variant of the user API")
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+
+    @Autowired
+    public ReactiveUserController(ReactiveUserService userService) {
+        this.userService = userService;
+    }
+
+    /**
+     * CREATE - Create a new user
+     * HTTP POST /api/v1/users
+     */
+    @PostMapping
+    @Operation(summary = "Create a new user", description = "Creates a new user with the provided information")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "User created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "409", description = "Email already exists")
+    })
+    public Mono<ResponseEntity<UserResponse>> createUser(
+            @Valid @RequestBody UserCreateRequest userCreateRequest) {
+        return userService.createUser(userCreateRequest)
+            .map(user -> ResponseEntity.status(HttpStatus.CREATED).body(user));
+    }
+
+    /**
+     * READ - Get all users with pagination
+     * HTTP GET /api/v1/users
+     */
+    @GetMapping
+    @Operation(summary = "Get all users", description = "Retrieves all users with optional pagination and sorting")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
+    })
+    public Mono<UserPageResponse<UserResponse>> getAllUsers(
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort field")
+            @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc)")
+            @RequestParam(defaultValue = "asc") String sortDir) {
+        return userService.getAllUsers(toPageable(page, size, sortBy, sortDir)).map(UserPageResponse::of);
+    }
+
+    /**
+     * READ - Stream all users without pagination
+     * HTTP GET /api/v1/users/all
+     */
+    @GetMapping(value = "/all", produces = {
+        MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Get all users (no pagination)", description = "Streams every user; use application/x-ndjson for incremental delivery")
+    public Flux<UserResponse> getAllUsersWithoutPagination() {
+        return userService.getAllUsers();
+    }
+
+    /**
+     * READ - Get user by ID
+     * HTTP GET /api/v1/users/{id}
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get user by ID", description = "Retrieves a specific user by their ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "User found"),
+        @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    public Mono<UserResponse> getUserById(
+            @Parameter(description = "User ID") @PathVariable Long id) {
+        return userService.getUserById(id);
+    }
+
+    /**
+     * UPDATE - Update user by ID
+     * HTTP PUT /api/v1/users/{id}
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Update user", description = "Updates an existing user with new information")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "User updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input"),
+        @ApiResponse(responseCode = "404", description = "User not found"),
+        @ApiResponse(responseCode = "409", description = "Email already exists")
+    })
+    public Mono<UserResponse> updateUser(
+            @Parameter(description = "User ID") @PathVariable Long id,
+            @Valid @RequestBody UserUpdateRequest userUpdateRequest) {
+        return userService.updateUser(id, userUpdateRequest);
+    }
+
+    /**
+     * DELETE - Delete user by ID
+     * HTTP DELETE /api/v1/users/{id}
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete user", description = "Deletes a user by their ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "User deleted successfully"),
+        @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    public Mono<ResponseEntity<Void>> deleteUser(
+            @Parameter(description = "User ID") @PathVariable Long id) {
+        return userService.deleteUser(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    /**
+     * READ - Get users by department
+     * HTTP GET /api/v1/users/department/{department}
+     */
+    @GetMapping(value = "/department/{department}", produces = {
+        MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Get users by department", description = "Retrieves all users in a specific department")
+    public Flux<UserResponse> getUsersByDepartment(
+            @Parameter(description = "Department name") @PathVariable String department) {
+        return userService.getUsersByDepartment(department);
+    }
+
+    /**
+     * READ - Get users by age range
+     * HTTP GET /api/v1/users/age-range
+     */
+    @GetMapping(value = "/age-range", produces = {
+        MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Get users by age range", description = "Retrieves users within a specific age range")
+    public Flux<UserResponse> getUsersByAgeRange(
+            @Parameter(description = "Minimum age") @RequestParam Integer minAge,
+            @Parameter(description = "Maximum age") @RequestParam Integer maxAge) {
+        return userService.getUsersByAgeRange(minAge, maxAge);
+    }
+
+    /**
+     * READ - Search users by first name
+     * HTTP GET /api/v1/users/search
+     */
+    @GetMapping(value = "/search", produces = {
+        MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Search users by first name", description = "Searches users by first name (case insensitive)")
+    public Flux<UserResponse> searchUsersByFirstName(
+            @Parameter(description = "First name pattern") @RequestParam String firstName) {
+        return userService.searchUsersByFirstName(firstName);
+    }
+
+    /**
+     * READ - Get user count by department
+     * HTTP GET /api/v1/users/department/{department}/count
+     */
+    @GetMapping("/department/{department}/count")
+    @Operation(summary = "Get user count by department", description = "Gets the number of users in a specific department")
+    public Mono<DepartmentCountResponse> getUserCountByDepartment(
+            @Parameter(description = "Department name") @PathVariable String department) {
+        return userService.getUserCountByDepartment(department)
+            .map(count -> new DepartmentCountResponse(department, count));
+    }
+
+    private static Pageable toPageable(int page, int size, String sortBy, String sortDir) {
+        Sort sort = sortDir.equalsIgnoreCase("desc") ?
+            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        return PageRequest.of(page, size, sort);
+    }
+}
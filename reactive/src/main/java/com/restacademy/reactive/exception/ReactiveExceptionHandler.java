@@ -0,0 +1,122 @@
+package com.restacademy.reactive.exception;
+
+import com.restacademy.exception.DuplicateResourceException;
+import com.restacademy.exception.ResourceNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exception handler for the reactive API
+ * Produces the same RFC 7807 problem details as the servlet {@code GlobalExceptionHandler}.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    private static final String VALIDATION_ERRORS = "validationErrors";
+    private static final String PROBLEM_TYPE_PREFIX = "urn:restacademy:problem:";
+
+    /**
+     * Static parts of each kind of problem
+     */
+    private enum Problem {
+        NOT_FOUND(HttpStatus.NOT_FOUND, "not-found", "Resource Not Found"),
+        DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "duplicate-resource", "Duplicate Resource"),
+        DATA_INTEGRITY_VIOLATION(HttpStatus.CONFLICT, "data-integrity-violation", "Data Integrity Violation"),
+        VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "validation-failed", "Validation Failed"),
+        BAD_REQUEST(HttpStatus.BAD_REQUEST, "bad-request", "Bad Request");
+
+        private final HttpStatus status;
+        private final URI type;
+        private final String title;
+
+        Problem(HttpStatus status, String type, String title) {
+            this.status = status;
+            this.type = URI.create(PROBLEM_TYPE_PREFIX + type);
+            this.title = title;
+        }
+    }
+
+    /**
+     * Handle resource not found exceptions
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleResourceNotFoundException(
+            ResourceNotFoundException ex, ServerWebExchange exchange) {
+        return problem(Problem.NOT_FOUND, ex.getMessage(), exchange);
+    }
+
+    /**
+     * Handle duplicate resource exceptions
+     */
+    @ExceptionHandler(DuplicateResourceException.class)
+    public ResponseEntity<ProblemDetail> handleDuplicateResourceException(
+            DuplicateResourceException ex, ServerWebExchange exchange) {
+        return problem(Problem.DUPLICATE_RESOURCE, ex.getMessage(), exchange);
+    }
+
+    /**
+     * Handle constraint violations detected by the database (e.g. a concurrent insert of the same email)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemDetail> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, ServerWebExchange exchange) {
+        return problem(Problem.DATA_INTEGRITY_VIOLATION, "The request conflicts with existing data", exchange);
+    }
+
+    /**
+     * Handle validation exceptions
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ProblemDetail> handleValidationExceptions(
+            WebExchangeBindException ex, ServerWebExchange exchange) {
+        List<FieldError> fieldErrors = ex.getBindingResult().getFieldErrors();
+        Map<String, String> validationErrors = new LinkedHashMap<>(fieldErrors.size() * 2);
+        for (FieldError fieldError : fieldErrors) {
+            validationErrors.put(fieldError.getField(), fieldError.getDefaultMessage());
+        }
+        ResponseEntity<ProblemDetail> response =
+            problem(Problem.VALIDATION_FAILED, "Invalid input parameters", exchange);
+        response.getBody().setProperty(VALIDATION_ERRORS, validationErrors);
+        return response;
+    }
+
+    /**
+     * Handle invalid request arguments rejected by the service layer
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> handleIllegalArgumentException(
+            IllegalArgumentException ex, ServerWebExchange exchange) {
+        return problem(Problem.BAD_REQUEST, ex.getMessage(), exchange);
+    }
+
+    /**
+     * Handle request input that cannot be read or converted (malformed body, wrong parameter type)
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ProblemDetail> handleServerWebInputException(
+            ServerWebInputException ex, ServerWebExchange exchange) {
+        return problem(Problem.BAD_REQUEST, ex.getReason(), exchange);
+    }
+
+    private static ResponseEntity<ProblemDetail> problem(Problem problem, String detail, ServerWebExchange exchange) {
+        ProblemDetail body = ProblemDetail.forStatus(problem.status);
+        body.setType(problem.type);
+        body.setTitle(problem.title);
+        body.setDetail(detail);
+        body.setInstance(URI.create(exchange.getRequest().getPath().value()));
+        return new ResponseEntity<>(body, problem.status);
+    }
+}
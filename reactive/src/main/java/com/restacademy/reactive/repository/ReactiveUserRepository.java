@@ -0,0 +1,57 @@
+package com.restacademy.reactive.repository;
+
+import com.restacademy.reactive.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for User rows
+ * Derived queries run on the non-blocking R2DBC driver; {@link Flux} results are fetched as the
+ * subscriber requests them.
+ */
+@Repository
+public interface ReactiveUserRepository extends R2dbcRepository<User, Long> {
+
+    /**
+     * Find one page of users
+     */
+    Flux<User> findAllBy(Pageable pageable);
+
+    /**
+     * Find all users ordered by id
+     */
+    Flux<User> findAllByOrderByIdAsc();
+
+    /**
+     * Find user by email address
+     */
+    Mono<User> findByEmail(String email);
+
+    /**
+     * Check if user exists by email
+     */
+    Mono<Boolean> existsByEmail(String email);
+
+    /**
+     * Find users by department ordered by last name
+     */
+    Flux<User> findByDepartmentOrderByLastNameAsc(String department);
+
+    /**
+     * Find users within an age range
+     */
+    Flux<User> findByAgeBetween(Integer minAge, Integer maxAge);
+
+    /**
+     * Find users whose first name contains the given text (case insensitive)
+     */
+    Flux<User> findByFirstNameContainingIgnoreCase(String firstName);
+
+    /**
+     * Count users in a department
+     */
+    Mono<Long> countByDepartment(String department);
+}
@@ -0,0 +1,160 @@
+package com.restacademy.reactive.service;
+
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.dto.UserUpdateRequest;
+import com.restacademy.exception.DuplicateResourceException;
+import com.restacademy.exception.ResourceNotFoundException;
+import com.restacademy.reactive.dto.UserResponse;
+import com.restacademy.reactive.model.User;
+import com.restacademy.reactive.repository.ReactiveUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Reactive counterpart of {@code UserService}: same rules and error messages, no blocking calls.
+ * Reads run without a transaction so concurrent queries can each take a pooled connection.
+ * List results are {@link Flux}es whose database demand follows the subscriber; {@code limitRate}
+ * caps how many rows are requested from the driver ahead of what the client has consumed.
+ */
+@Service
+public class ReactiveUserService {
+
+    private static final Set<String> SORT_FIELDS = Set.of(
+        "id", "firstName", "lastName", "email", "age", "department", "createdAt", "updatedAt");
+
+    private final ReactiveUserRepository userRepository;
+    private final int prefetch;
+
+    @Autowired
+    public ReactiveUserService(ReactiveUserRepository userRepository,
+                               @Value("${users.stream.prefetch:256}") int prefetch) {
+        this.userRepository = userRepository;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Create a new user
+     */
+    @Transactional
+    public Mono<UserResponse> createUser(UserCreateRequest request) {
+        return userRepository.existsByEmail(request.getEmail())
+            .flatMap(exists -> {
+                if (exists) {
+                    return Mono.error(new DuplicateResourceException("Email already exists: " + request.getEmail()));
+                }
+                User user = new User(request.getFirstName(), request.getLastName(), request.getEmail(),
+                    request.getAge(), request.getDepartment());
+                user.setCreatedAt(LocalDateTime.now());
+                user.setUpdatedAt(user.getCreatedAt());
+                return userRepository.save(user);
+            })
+            .map(UserResponse::new);
+    }
+
+    /**
+     * Get user by ID
+     */
+    public Mono<UserResponse> getUserById(Long id) {
+        return findExisting(id).map(UserResponse::new);
+    }
+
+    /**
+     * Get all users with pagination; the page and the total count are queried concurrently
+     */
+    public Mono<Page<UserResponse>> getAllUsers(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORT_FIELDS.contains(order.getProperty())) {
+                return Mono.error(new IllegalArgumentException("Unknown sort field '" + order.getProperty() + "'"));
+            }
+        }
+        return Mono.zip(
+                userRepository.findAllBy(pageable).map(UserResponse::new).collectList(),
+                userRepository.count())
+            .map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    /**
+     * Stream all users ordered by id
+     */
+    public Flux<UserResponse> getAllUsers() {
+        return userRepository.findAllByOrderByIdAsc().limitRate(prefetch).map(UserResponse::new);
+    }
+
+    /**
+     * Update user by ID
+     */
+    @Transactional
+    public Mono<UserResponse> updateUser(Long id, UserUpdateRequest request) {
+        return findExisting(id)
+            .flatMap(existing -> {
+                Mono<Boolean> emailTaken = existing.getEmail().equals(request.getEmail())
+                    ? Mono.just(false)
+                    : userRepository.existsByEmail(request.getEmail());
+                return emailTaken.flatMap(taken -> {
+                    if (taken) {
+                        return Mono.error(new DuplicateResourceException("Email already exists: " + request.getEmail()));
+                    }
+                    existing.setFirstName(request.getFirstName());
+                    existing.setLastName(request.getLastName());
+                    existing.setEmail(request.getEmail());
+                    existing.setAge(request.getAge());
+                    existing.setDepartment(request.getDepartment());
+                    existing.setUpdatedAt(LocalDateTime.now());
+                    return userRepository.save(existing);
+                });
+            })
+            .map(UserResponse::new);
+    }
+
+    /**
+     * Delete user by ID
+     */
+    @Transactional
+    public Mono<Void> deleteUser(Long id) {
+        return findExisting(id).flatMap(userRepository::delete);
+    }
+
+    /**
+     * Stream users of a department ordered by last name
+     */
+    public Flux<UserResponse> getUsersByDepartment(String department) {
+        return userRepository.findByDepartmentOrderByLastNameAsc(department).limitRate(prefetch).map(UserResponse::new);
+    }
+
+    /**
+     * Stream users within an age range
+     */
+    public Flux<UserResponse> getUsersByAgeRange(Integer minAge, Integer maxAge) {
+        return userRepository.findByAgeBetween(minAge, maxAge).limitRate(prefetch).map(UserResponse::new);
+    }
+
+    /**
+     * Stream users whose first name matches (case insensitive)
+     */
+    public Flux<UserResponse> searchUsersByFirstName(String firstName) {
+        return userRepository.findByFirstNameContainingIgnoreCase(firstName).limitRate(prefetch).map(UserResponse::new);
+    }
+
+    /**
+     * Get user count by department
+     */
+    public Mono<Long> getUserCountByDepartment(String department) {
+        return userRepository.countByDepartment(department);
+    }
+
+    private Mono<User> findExisting(Long id) {
+        return userRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("User not found with id: " + id)));
+    }
+}
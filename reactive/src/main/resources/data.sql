@@ -0,0 +1,10 @@
+-- Sample users, as loaded by the servlet application's DataInitializer (password: password123)
+MERGE INTO users (first_name, last_name, email, password, age, department, created_at, updated_at) KEY (email) VALUES
+    ('John', 'Doe', 'john.doe@example.com', '$2a$10$frazYUslA72vM3ZsO8TV6u7RPs7a5Uj/FBiQH7VXmx4NXT36FAxHG', 28, 'Engineering', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('Jane', 'Smith', 'jane.smith@example.com', '$2a$10$frazYUslA72vM3ZsO8TV6u7RPs7a5Uj/FBiQH7VXmx4NXT36FAxHG', 32, 'Marketing', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('Mike', 'Johnson', 'mike.johnson@example.com', '$2a$10$frazYUslA72vM3ZsO8TV6u7RPs7a5Uj/FBiQH7VXmx4NXT36FAxHG', 25, 'Engineering', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('Sarah', 'Wilson', 'sarah.wilson@example.com', '$2a$10$frazYUslA72vM3ZsO8TV6u7RPs7a5Uj/FBiQH7VXmx4NXT36FAxHG', 30, 'HR', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('David', 'Brown', 'david.brown@example.com', '$2a$10$frazYUslA72vM3ZsO8TV6u7RPs7a5Uj/FBiQH7VXmx4NXT36FAxHG', 35, 'Finance', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('Emily', 'Davis', 'emily.davis@example.com', '$2a$10$frazYUslA72vM3ZsO8TV6u7RPs7a5Uj/FBiQH7VXmx4NXT36FAxHG', 27, 'Marketing', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('Chris', 'Miller', 'chris.miller@example.com', '$2a$10$frazYUslA72vM3ZsO8TV6u7RPs7a5Uj/FBiQH7VXmx4NXT36FAxHG', 29, 'Engineering', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    ('Lisa', 'Anderson', 'lisa.anderson@example.com', '$2a$10$frazYUslA72vM3ZsO8TV6u7RPs7a5Uj/FBiQH7VXmx4NXT36FAxHG', 31, 'Sales', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
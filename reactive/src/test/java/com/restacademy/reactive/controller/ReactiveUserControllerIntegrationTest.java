@@ -0,0 +1,100 @@
+package com.restacademy.reactive.controller;
+
+import com.restacademy.dto.LoginRequest;
+import com.restacademy.dto.LoginResponse;
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.reactive.dto.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+public class ReactiveUserControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        LoginResponse login = webTestClient.post().uri("/api/v1/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new LoginRequest("john.doe@example.com", "password123"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(LoginResponse.class)
+            .returnResult().getResponseBody();
+        token = login.getToken();
+    }
+
+    @Test
+    void getAllUsers_WithoutToken_ShouldBeForbidden() {
+        webTestClient.get().uri("/api/v1/users")
+            .exchange()
+            .expectStatus().isForbidden();
+    }
+
+    @Test
+    void createAndGetUser_ShouldFollowServletContract() {
+        UserResponse created = webTestClient.post().uri("/api/v1/users")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new UserCreateRequest("Reactive", "User", "reactive.user@test.com", 33, "Engineering"))
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(UserResponse.class)
+            .returnResult().getResponseBody();
+
+        webTestClient.get().uri("/api/v1/users/{id}", created.getId())
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.email").isEqualTo("reactive.user@test.com")
+            .jsonPath("$.createdAt").exists();
+
+        webTestClient.post().uri("/api/v1/users")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new UserCreateRequest("Reactive", "User", "reactive.user@test.com", 33, "Engineering"))
+            .exchange()
+            .expectStatus().isEqualTo(409)
+            .expectBody()
+            .jsonPath("$.title").isEqualTo("Duplicate Resource");
+
+        webTestClient.get().uri("/api/v1/users?page=0&size=2&sortBy=lastName")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.users.length()").isEqualTo(2)
+            .jsonPath("$.pageSize").isEqualTo(2)
+            .jsonPath("$.hasPrevious").isEqualTo(false);
+    }
+
+    @Test
+    void getUsersByDepartment_AsNdjson_ShouldStreamUsers() {
+        Flux<UserResponse> users = webTestClient.get().uri("/api/v1/users/department/Engineering")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(UserResponse.class)
+            .getResponseBody();
+
+        StepVerifier.create(users.map(UserResponse::getDepartment))
+            .expectNext("Engineering")
+            .thenConsumeWhile("Engineering"::equals)
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,109 @@
+#!/usr/bin/env bash
+# Startup benchmark: time to first successful request and resident memory for each way of starting the app.
+#
+#   mvn -Pstartup -DskipTests package          # boot jar, AOT classes, startup jar and CDS archive
+#   mvn -Pnative -DskipTests native:compile    # optional, needs GraalVM; adds the native mode
+#   scripts/startup-benchmark.sh [runs] [modes...]
+#
+# Modes: jar (plain boot jar), thin (startup jar with lib/ class path), aot, cds, aot-cds, native.
+# Each mode is started <runs> times (default 5) on $PORT (default 8097). Time to first request is measured from
+# launch until GET /api/v1/health answers 200; RSS is read right after that first request. Linux only (/proc).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+shift || true
+MODES=${*:-jar thin aot cds aot-cds native}
+PORT=${PORT:-8097}
+URL="http://localhost:$PORT/api/v1/health"
+APP_ARGS=(--server.port="$PORT" --logging.level.com.restacademy=INFO --spring.jpa.show-sql=false)
+
+BOOT_JAR=$(ls target/rest-academy-*.jar 2>/dev/null | grep -v -e '-startup' -e '-contract' | head -n 1 || true)
+STARTUP_DIR=target/startup
+STARTUP_JAR=$(cd "$STARTUP_DIR" 2>/dev/null && ls rest-academy-*-startup.jar 2>/dev/null | head -n 1 || true)
+NATIVE=target/rest-academy
+
+command_for() {
+    case "$1" in
+        jar)     [[ -n "$BOOT_JAR" ]] && echo "java -jar $BOOT_JAR" ;;
+        thin)    [[ -n "$STARTUP_JAR" ]] && echo "java -jar $STARTUP_JAR" ;;
+        aot)     [[ -n "$STARTUP_JAR" ]] && echo "java -Dspring.aot.enabled=true -jar $STARTUP_JAR" ;;
+        cds)     [[ -f "$STARTUP_DIR/rest-academy.jsa" ]] \
+                     && echo "java -XX:SharedArchiveFile=rest-academy.jsa -Xlog:cds=off -jar $STARTUP_JAR" ;;
+        aot-cds) [[ -f "$STARTUP_DIR/rest-academy.jsa" ]] \
+                     && echo "java -XX:SharedArchiveFile=rest-academy.jsa -Xlog:cds=off -Dspring.aot.enabled=true -jar $STARTUP_JAR" ;;
+        native)  [[ -x "$NATIVE" ]] && echo "$NATIVE" ;;
+        *)       echo "Unknown mode '$1'" >&2; return 1 ;;
+    esac
+}
+
+# The startup jar and its CDS archive are used from target/startup, where the archive was recorded
+directory_for() {
+    case "$1" in
+        thin|aot|cds|aot-cds) echo "$STARTUP_DIR" ;;
+        *)                    echo "." ;;
+    esac
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_once() {
+    local command=$1 directory=$2 log=$3 start pid ready rss
+    start=$(now_ms)
+    (cd "$directory" && exec $command "${APP_ARGS[@]}") > "$log" 2>&1 &
+    pid=$!
+    ready=""
+    for _ in $(seq 1 6000); do
+        if curl -fs -o /dev/null "$URL"; then
+            ready=$(( $(now_ms) - start ))
+            break
+        fi
+        kill -0 "$pid" 2>/dev/null || break
+        sleep 0.01
+    done
+    rss=$(awk '/^VmRSS:/ { print int($2 / 1024) }' "/proc/$pid/status" 2>/dev/null || echo 0)
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+    if [[ -z "$ready" ]]; then
+        echo "failed, see $log" >&2
+        return 1
+    fi
+    echo "$ready $rss"
+}
+
+if curl -fs -o /dev/null "$URL"; then
+    echo "Port $PORT is already serving requests, stop that server or set PORT" >&2
+    exit 1
+fi
+
+mkdir -p target/startup-benchmark
+printf '%-8s %6s %14s %14s %10s\n' mode runs "first req ms" "(min..max)" "RSS MB"
+for mode in $MODES; do
+    command=$(command_for "$mode") || true
+    if [[ -z "$command" ]]; then
+        printf '%-8s %s\n' "$mode" "skipped (not built)"
+        continue
+    fi
+    directory=$(directory_for "$mode")
+    times=() rss=()
+    for run in $(seq 1 "$RUNS"); do
+        result=$(run_once "$command" "$directory" "$PWD/target/startup-benchmark/$mode-$run.log") || continue
+        times+=("${result% *}")
+        rss+=("${result#* }")
+    done
+    if [[ ${#times[@]} -eq 0 ]]; then
+        printf '%-8s %s\n' "$mode" "failed"
+        continue
+    fi
+    sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+    printf '%-8s %6d %14d %14s %10d\n' "$mode" "${#times[@]}" \
+        "$(printf '%s\n' "${times[@]}" | median)" \
+        "($(echo "$sorted" | head -n 1)..$(echo "$sorted" | tail -n 1))" \
+        "$(printf '%s\n' "${rss[@]}" | median)"
+done
@@ -0,0 +1,103 @@
+package com.restacademy.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, e.g. from two commits, benchmark by benchmark (including parameters).
+ *
+ * Prints baseline and current score with the relative change. Results are flagged as regressions when they
+ * got worse by more than {@code --threshold} percent; for throughput modes higher is better, for time modes
+ * lower is better. With {@code --fail-on-regression=true} the process exits with status 1 if any is found.
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec@compare-benchmarks \
+ *     -Dcompare.args="--baseline=jmh-main.json --current=target/jmh-result.json --threshold=10"
+ * </pre>
+ */
+public class BenchmarkComparison {
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parse(args);
+        if (!options.containsKey("baseline")) {
+            System.err.println("Usage: --baseline=<jmh json> [--current=target/jmh-result.json] [--threshold=10]"
+                + " [--fail-on-regression=false]");
+            System.exit(2);
+        }
+        double threshold = Double.parseDouble(options.getOrDefault("threshold", "10"));
+        Map<String, Score> baseline = read(new File(options.get("baseline")));
+        Map<String, Score> current = read(new File(options.getOrDefault("current", "target/jmh-result.json")));
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-90s %14s %14s %9s%n", entry.getKey(), "-", now, "new");
+                continue;
+            }
+            double change = (now.value - before.value) / before.value * 100;
+            // Positive "worse" means slower (time modes) or less throughput
+            double worse = now.higherIsBetter ? -change : change;
+            boolean regression = worse > threshold;
+            regressions += regression ? 1 : 0;
+            System.out.printf(Locale.ROOT, "%-90s %14s %14s %+8.1f%%%s%n", entry.getKey(), before, now, change,
+                regression ? "  REGRESSION" : worse < -threshold ? "  improved" : "");
+        }
+        baseline.keySet().stream()
+            .filter(key -> !current.containsKey(key))
+            .forEach(key -> System.out.printf(Locale.ROOT, "%-90s %14s %14s %9s%n", key, baseline.get(key), "-", "removed"));
+
+        System.out.printf(Locale.ROOT, "%n%d regression(s) above %.1f%%%n", regressions, threshold);
+        if (regressions > 0 && Boolean.parseBoolean(options.getOrDefault("fail-on-regression", "false"))) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                .replace("com.restacademy.benchmark.", ""));
+            Map<String, String> params = new LinkedHashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> it = result.path("params").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            if (!params.isEmpty()) {
+                key.append(params);
+            }
+            JsonNode metric = result.path("primaryMetric");
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(), metric.path("scoreUnit").asText(),
+                result.path("mode").asText().equals("thrpt")));
+        }
+        return scores;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Score(double value, String unit, boolean higherIsBetter) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%.3f %s", value, unit);
+        }
+    }
+}
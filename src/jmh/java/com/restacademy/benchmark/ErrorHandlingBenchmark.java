@@ -0,0 +1,149 @@
+package com.restacademy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.restacademy.config.IsoLocalDateTimeSerializer;
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.dto.UserResponse;
+import com.restacademy.exception.DuplicateResourceException;
+import com.restacademy.exception.GlobalExceptionHandler;
+import com.restacademy.exception.ResourceNotFoundException;
+import com.restacademy.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of an error response compared with a success: the exception is thrown at a stack depth comparable to
+ * a Spring MVC request and caught at the top, the body is built by {@link GlobalExceptionHandler} and
+ * written as JSON with the application's Jackson setup. {@code found} is the success baseline (map a user and
+ * write it); {@code notFoundWithStackTrace} is the previous error path (an exception capturing its stack
+ * trace and a timestamp/status/error/message/path body), for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ErrorHandlingBenchmark {
+
+    /**
+     * Frames on the stack when the exception is created; a request through filters, Spring Security,
+     * the dispatcher and service proxies is about 100 deep
+     */
+    @Param({"10", "100"})
+    public int stackDepth;
+
+    // Not a constant, so messages are concatenated per call as in UserService
+    private long id = 42;
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(4 * 1024);
+    private ObjectWriter userWriter;
+    private ObjectWriter problemWriter;
+    private ObjectWriter legacyErrorWriter;
+    private MockHttpServletRequest request;
+    private MethodParameter parameter;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .serializerByType(LocalDateTime.class, IsoLocalDateTimeSerializer.INSTANCE)
+            .build();
+        userWriter = objectMapper.writerFor(UserResponse.class);
+        problemWriter = objectMapper.writerFor(ProblemDetail.class);
+        legacyErrorWriter = objectMapper.writerFor(Map.class);
+        request = new MockHttpServletRequest("GET", "/api/v1/users/" + id);
+        parameter = new MethodParameter(ErrorHandlingBenchmark.class.getDeclaredMethod("target", UserCreateRequest.class), 0);
+        user = new User("John", "Doe", "john.doe@example.com", 28, "Engineering");
+        user.setId(id);
+        user.setCreatedAt(LocalDateTime.now().minusDays(3));
+        user.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public int found() throws IOException {
+        UserResponse response = atDepth(stackDepth, () -> new UserResponse(user));
+        return write(userWriter, ResponseEntity.ok(response).getBody());
+    }
+
+    @Benchmark
+    public int notFound() throws IOException {
+        try {
+            atDepth(stackDepth, () -> {
+                throw new ResourceNotFoundException("User not found with id: " + id);
+            });
+            throw new IllegalStateException();
+        } catch (ResourceNotFoundException e) {
+            return write(problemWriter, handler.handleResourceNotFoundException(e, request).getBody());
+        }
+    }
+
+    @Benchmark
+    public int duplicate() throws IOException {
+        try {
+            atDepth(stackDepth, () -> {
+                throw new DuplicateResourceException("Email already exists: john.doe@example.com");
+            });
+            throw new IllegalStateException();
+        } catch (DuplicateResourceException e) {
+            return write(problemWriter, handler.handleDuplicateResourceException(e, request).getBody());
+        }
+    }
+
+    @Benchmark
+    public int validationFailed() throws IOException {
+        MethodArgumentNotValidException exception = atDepth(stackDepth, () -> {
+            BeanPropertyBindingResult result = new BeanPropertyBindingResult(new UserCreateRequest(), "userCreateRequest");
+            result.addError(new FieldError("userCreateRequest", "firstName", "First name is required"));
+            result.addError(new FieldError("userCreateRequest", "email", "Email should be valid"));
+            result.addError(new FieldError("userCreateRequest", "age", "Age must be at least 18"));
+            return new MethodArgumentNotValidException(parameter, result);
+        });
+        return write(problemWriter, handler.handleValidationExceptions(exception, request).getBody());
+    }
+
+    @Benchmark
+    public int notFoundWithStackTrace() throws IOException {
+        try {
+            atDepth(stackDepth, () -> {
+                throw new IllegalStateException("User not found with id: " + id);
+            });
+            throw new IllegalArgumentException();
+        } catch (IllegalStateException e) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("timestamp", LocalDateTime.now());
+            body.put("status", 404);
+            body.put("error", "Resource Not Found");
+            body.put("message", e.getMessage());
+            body.put("path", "uri=" + request.getRequestURI());
+            return write(legacyErrorWriter, body);
+        }
+    }
+
+    private int write(ObjectWriter writer, Object body) throws IOException {
+        output.reset();
+        writer.writeValue(output, body);
+        return output.size();
+    }
+
+    private static <T> T atDepth(int depth, Supplier<T> supplier) {
+        return depth <= 1 ? supplier.get() : atDepth(depth - 1, supplier);
+    }
+
+    @SuppressWarnings("unused")
+    private void target(UserCreateRequest request) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.restacademy.benchmark;
+
+import com.restacademy.config.JwtUtil;
+import com.restacademy.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the JWT operations on the request path: issuing a token at login, and parsing plus validating it
+ * in the authentication filter (HMAC-SHA signature check and claims parsing each time).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "MySecretKeyForJWTTokenGenerationAndValidationRestAcademy2025");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        user = new User("John", "Doe", "john.doe@example.com", 30, "Engineering");
+        token = jwtUtil.generateToken(user.getEmail());
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateToken(user.getEmail());
+    }
+
+    @Benchmark
+    public String parse() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    /**
+     * What JwtAuthenticationFilter does per request: extract the subject, then validate the token for the user
+     */
+    @Benchmark
+    public boolean parseAndValidate() {
+        return jwtUtil.extractUsername(token).equals(user.getUsername()) && jwtUtil.validateToken(token, user);
+    }
+}
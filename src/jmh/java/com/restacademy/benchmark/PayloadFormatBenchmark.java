@@ -0,0 +1,154 @@
+package com.restacademy.benchmark;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.CodedOutputStream;
+import com.restacademy.config.UserProtobufHttpMessageConverter;
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.dto.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost and payload size of the negotiated response formats.
+ * Uses the same HTTP message converters as the application, so the numbers include converter overhead.
+ * Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    private static final Type USER_LIST = ResolvableType.forClassWithGenerics(List.class, UserResponse.class).getType();
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"1", "100"})
+    public int users;
+
+    private GenericHttpMessageConverter<Object> converter;
+    private MediaType mediaType;
+    private List<UserResponse> payload;
+    private byte[] createRequestBody;
+    private final ReusableOutputMessage output = new ReusableOutputMessage();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        switch (format) {
+            case "json" -> {
+                converter = new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+                mediaType = MediaType.APPLICATION_JSON;
+            }
+            case "cbor" -> {
+                converter = new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                    .factory(new CBORFactory()).featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+                mediaType = MediaType.APPLICATION_CBOR;
+            }
+            case "smile" -> {
+                converter = new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                    .factory(new SmileFactory()).featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build());
+                mediaType = new MediaType("application", "x-jackson-smile");
+            }
+            default -> {
+                converter = new UserProtobufHttpMessageConverter();
+                mediaType = UserProtobufHttpMessageConverter.PROTOBUF;
+            }
+        }
+
+        payload = new ArrayList<>(users);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < users; i++) {
+            payload.add(new UserResponse((long) i + 1, "First" + i, "Last" + i, "user" + i + "@example.com",
+                20 + i % 50, i % 3 == 0 ? null : "Department" + i % 7, now.minusDays(i), now.minusHours(i)));
+        }
+
+        UserCreateRequest request = new UserCreateRequest("John", "Doe", "john.doe@example.com", 30, "Engineering");
+        if (converter instanceof UserProtobufHttpMessageConverter) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            CodedOutputStream coded = CodedOutputStream.newInstance(bytes);
+            coded.writeString(1, request.getFirstName());
+            coded.writeString(2, request.getLastName());
+            coded.writeString(3, request.getEmail());
+            coded.writeInt32(4, request.getAge());
+            coded.writeString(5, request.getDepartment());
+            coded.flush();
+            createRequestBody = bytes.toByteArray();
+        } else {
+            converter.write(request, UserCreateRequest.class, mediaType, output.reset());
+            createRequestBody = output.body.toByteArray();
+        }
+
+        converter.write(payload, USER_LIST, mediaType, output.reset());
+        System.out.printf("%n%s: %d bytes for %d users, %d bytes per create request%n",
+            format, output.body.size(), users, createRequestBody.length);
+    }
+
+    @Benchmark
+    public int serializeUserList() throws IOException {
+        converter.write(payload, USER_LIST, mediaType, output.reset());
+        return output.body.size();
+    }
+
+    @Benchmark
+    public Object deserializeCreateRequest() throws IOException {
+        return converter.read(UserCreateRequest.class, null, new ByteInputMessage(createRequestBody));
+    }
+
+    private static final class ReusableOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+        private HttpHeaders headers = new HttpHeaders();
+
+        ReusableOutputMessage reset() {
+            body.reset();
+            headers = new HttpHeaders();
+            return this;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+    private record ByteInputMessage(byte[] bytes) implements HttpInputMessage {
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return new HttpHeaders();
+        }
+    }
+}
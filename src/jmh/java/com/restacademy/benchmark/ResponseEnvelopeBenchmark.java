@@ -0,0 +1,112 @@
+package com.restacademy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.restacademy.config.IsoLocalDateTimeSerializer;
+import com.restacademy.dto.DepartmentCountResponse;
+import com.restacademy.dto.UserPageResponse;
+import com.restacademy.dto.UserResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON cost of the UserController envelopes: the former ad-hoc HashMap bodies written through the default
+ * ObjectMapper versus typed records with a cached ObjectWriter, with and without the Blackbird module and
+ * the direct ISO timestamp serializer. Run with {@code -prof gc} (the profile default) for allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseEnvelopeBenchmark {
+
+    /**
+     * map: HashMap envelope, plain mapper; record: record envelope and cached writer;
+     * tuned: record, cached writer, Blackbird and IsoLocalDateTimeSerializer (the application setup)
+     */
+    @Param({"map", "record", "tuned"})
+    public String variant;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter pageWriter;
+    private ObjectWriter countWriter;
+    private Object page;
+    private Object count;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(64 * 1024);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (variant.equals("tuned")) {
+            objectMapper.registerModule(new BlackbirdModule());
+            objectMapper.registerModule(new SimpleModule("IsoTimestampModule")
+                .addSerializer(LocalDateTime.class, IsoLocalDateTimeSerializer.INSTANCE));
+        }
+
+        List<UserResponse> users = new ArrayList<>(pageSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < pageSize; i++) {
+            users.add(new UserResponse((long) i + 1, "First" + i, "Last" + i, "user" + i + "@example.com",
+                20 + i % 50, "Department" + i % 7, now.minusDays(i), now.minusHours(i)));
+        }
+
+        if (variant.equals("map")) {
+            Map<String, Object> pageMap = new HashMap<>();
+            pageMap.put("users", users);
+            pageMap.put("currentPage", 0);
+            pageMap.put("totalItems", 1000L);
+            pageMap.put("totalPages", 1000 / pageSize);
+            pageMap.put("pageSize", pageSize);
+            pageMap.put("hasNext", true);
+            pageMap.put("hasPrevious", false);
+            Map<String, Object> countMap = new HashMap<>();
+            countMap.put("department", "Engineering");
+            countMap.put("userCount", 42L);
+            page = pageMap;
+            count = countMap;
+            // What the stock converter does for a Map body: a fresh writer per response
+            pageWriter = null;
+            countWriter = null;
+        } else {
+            page = new UserPageResponse<>(users, 0, 1000, 1000 / pageSize, pageSize, true, false);
+            count = new DepartmentCountResponse("Engineering", 42);
+            pageWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructParametricType(UserPageResponse.class, UserResponse.class));
+            countWriter = objectMapper.writerFor(DepartmentCountResponse.class);
+        }
+    }
+
+    @Benchmark
+    public int userPage() throws IOException {
+        output.reset();
+        writer(pageWriter).writeValue(output, page);
+        return output.size();
+    }
+
+    @Benchmark
+    public int departmentCount() throws IOException {
+        output.reset();
+        writer(countWriter).writeValue(output, count);
+        return output.size();
+    }
+
+    private ObjectWriter writer(ObjectWriter cached) {
+        return cached != null ? cached : objectMapper.writer();
+    }
+}
@@ -0,0 +1,216 @@
+package com.restacademy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.RestAcademyApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load comparison of the platform-thread default against the virtual-thread mode.
+ *
+ * Boots the application once per mode on a random port and drives it with {@code --concurrency} clients
+ * for {@code --seconds} (after a warm-up) with a mix of paged user listings, single-user reads and logins
+ * (BCrypt). Prints throughput and latency percentiles per mode. The virtual mode is only available in the
+ * {@code java21} build; on older JDKs only the platform mode runs.
+ * <pre>
+ * mvn -Pbenchmark,java21 -DskipTests test-compile exec:exec@threading-comparison \
+ *     -Dload.args="--concurrency=1000 --seconds=30 --login-percent=5 --tomcat-threads=200"
+ * </pre>
+ */
+public class ThreadingLoadComparison {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final String PASSWORD = "password123";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "20"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "5"));
+        int loginPercent = Integer.parseInt(options.getOrDefault("login-percent", "5"));
+        String tomcatThreads = options.getOrDefault("tomcat-threads", "200");
+        List<String> modes = options.containsKey("modes")
+            ? Arrays.asList(options.get("modes").split(","))
+            : virtualThreadsAvailable() ? List.of("platform", "virtual") : List.of("platform");
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : modes) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RestAcademyApplication.class)
+                    // Arguments rather than builder properties, which application.properties would override
+                    .run("--server.port=0",
+                        "--server.tomcat.threads.max=" + tomcatThreads,
+                        "--threads.virtual.enabled=" + mode.equals("virtual"),
+                        "--rate-limit.enabled=false",
+                        "--concurrency-limit.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.restacademy=WARN",
+                        "--logging.level.org.springframework.web=WARN")) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                LoadRun run = new LoadRun("http://localhost:" + port, concurrency, loginPercent);
+                run.execute(Duration.ofSeconds(warmupSeconds));
+                results.add(run.execute(Duration.ofSeconds(seconds)).named(mode));
+            }
+        }
+
+        System.out.printf("%n%d clients, %d s, %d%% logins, Tomcat max threads %s (platform mode)%n",
+            concurrency, seconds, loginPercent, tomcatThreads);
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %8s%n",
+            "mode", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %10.0f %10.1f %10.1f %10.1f %10.1f %8d%n", result.mode, result.throughput,
+                result.percentile(50), result.percentile(90), result.percentile(99), result.percentile(100),
+                result.errors);
+        }
+    }
+
+    private static boolean virtualThreadsAvailable() {
+        if (Runtime.version().feature() < 21) {
+            return false;
+        }
+        try {
+            Class.forName("com.restacademy.config.VirtualThreadConfig");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private static final class LoadRun {
+
+        private final String baseUrl;
+        private final int concurrency;
+        private final int loginPercent;
+        private final HttpClient client;
+        private final String token;
+        private final String loginBody;
+
+        LoadRun(String baseUrl, int concurrency, int loginPercent) throws Exception {
+            this.baseUrl = baseUrl;
+            this.concurrency = concurrency;
+            this.loginPercent = loginPercent;
+            this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+            this.loginBody = "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}";
+            HttpResponse<String> login = client.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+            this.token = new ObjectMapper().readTree(login.body()).get("token").asText();
+        }
+
+        Result execute(Duration duration) throws InterruptedException {
+            long deadline = System.nanoTime() + duration.toNanos();
+            long[][] latencies = new long[concurrency][];
+            int[] counts = new int[concurrency];
+            AtomicLong errors = new AtomicLong();
+            CountDownLatch done = new CountDownLatch(concurrency);
+            ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                int worker = i;
+                clients.execute(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    try {
+                        while (System.nanoTime() < deadline) {
+                            HttpRequest request = nextRequest(random);
+                            long start = System.nanoTime();
+                            try {
+                                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                                if (response.statusCode() >= 400) {
+                                    errors.incrementAndGet();
+                                }
+                            } catch (Exception e) {
+                                errors.incrementAndGet();
+                            }
+                            if (count == samples.length) {
+                                samples = Arrays.copyOf(samples, count * 2);
+                            }
+                            samples[count++] = System.nanoTime() - start;
+                        }
+                    } finally {
+                        latencies[worker] = samples;
+                        counts[worker] = count;
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+            clients.shutdown();
+
+            int total = Arrays.stream(counts).sum();
+            long[] all = new long[total];
+            int offset = 0;
+            for (int i = 0; i < concurrency; i++) {
+                System.arraycopy(latencies[i], 0, all, offset, counts[i]);
+                offset += counts[i];
+            }
+            Arrays.sort(all);
+            return new Result(null, total / (duration.toNanos() / 1e9), all, errors.get());
+        }
+
+        private HttpRequest nextRequest(ThreadLocalRandom random) {
+            int roll = random.nextInt(100);
+            if (roll < loginPercent) {
+                return loginRequest();
+            }
+            String path = roll < loginPercent + 20
+                ? "/api/v1/users/" + (1 + random.nextInt(8))
+                : "/api/v1/users?page=" + random.nextInt(2) + "&size=5";
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        }
+
+        private HttpRequest loginRequest() {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(loginBody))
+                .build();
+        }
+    }
+
+    private record Result(String mode, double throughput, long[] sortedLatencies, long errors) {
+
+        Result named(String name) {
+            return new Result(name, throughput, sortedLatencies, errors);
+        }
+
+        double percentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1e6;
+        }
+    }
+}
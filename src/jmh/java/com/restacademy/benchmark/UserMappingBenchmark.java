@@ -0,0 +1,43 @@
+package com.restacademy.benchmark;
+
+import com.restacademy.dto.UserResponse;
+import com.restacademy.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping with {@code new UserResponse(User)}, for one user and for a list as returned by the
+ * list endpoints. JSON serialization of the resulting pages is covered by {@link ResponseEnvelopeBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMappingBenchmark {
+
+    @Param({"1", "20", "1000"})
+    public int users;
+
+    private List<User> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = new ArrayList<>(users);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < users; i++) {
+            User user = new User("First" + i, "Last" + i, "user" + i + "@example.com", 20 + i % 50, "Department" + i % 7);
+            user.setId((long) i + 1);
+            user.setCreatedAt(now.minusDays(i));
+            user.setUpdatedAt(now.minusHours(i));
+            entities.add(user);
+        }
+    }
+
+    @Benchmark
+    public List<UserResponse> mapList() {
+        return entities.stream().map(UserResponse::new).toList();
+    }
+}
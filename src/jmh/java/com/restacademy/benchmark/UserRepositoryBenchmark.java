@@ -0,0 +1,192 @@
+package com.restacademy.benchmark;
+
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import com.restacademy.service.ChangeSequencer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Every {@link UserRepository} query against an in-memory H2 users table of 10k, 100k and 1M rows, through
+ * Spring Data JPA and Hibernate as configured for the application (SQL logging off).
+ *
+ * The data keeps most result sizes independent of the table size: 100 users per department, 1000 distinct
+ * first names and unique emails, so growth in time per operation shows missing indexes and scans. The age
+ * range, change window and full scroll return a fixed share of the table and grow with it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserRepositoryBenchmark {
+
+    private static final int USERS_PER_DEPARTMENT = 100;
+    private static final int FIRST_NAMES = 1000;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository repository;
+    private TransactionTemplate readOnlyTransaction;
+    private String email;
+    private String department;
+    private List<String> emails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RepositoryBenchmarkApplication.class)
+            .web(WebApplicationType.NONE)
+            // Arguments rather than builder properties, which application.properties would override
+            .run("--spring.datasource.url=jdbc:h2:mem:users-benchmark-" + rows + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+        repository = context.getBean(UserRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        seed(context.getBean(JdbcTemplate.class));
+        email = email(rows / 2);
+        department = department(rows / 2);
+        emails = new ArrayList<>(50);
+        for (int i = 0; i < 50; i++) {
+            emails.add(email((int) ((long) i * rows / 50)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[]{(long) i, "First" + i % FIRST_NAMES, "Last" + i, email(i), 18 + i % 63,
+                department(i), null, now, now, (long) i});
+            if (batch.size() == INSERT_BATCH || i == rows) {
+                jdbcTemplate.batchUpdate("INSERT INTO users (id, first_name, last_name, email, age, department, "
+                    + "password, created_at, updated_at, change_seq) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private String email(int i) {
+        return "user" + i + "@example.com";
+    }
+
+    private String department(int i) {
+        return "Department" + i % Math.max(1, rows / USERS_PER_DEPARTMENT);
+    }
+
+    @Benchmark
+    public Optional<User> findById() {
+        return repository.findById((long) rows / 2);
+    }
+
+    @Benchmark
+    public Page<User> findAllPageInTheMiddle() {
+        return repository.findAll(PageRequest.of(rows / 40, 20));
+    }
+
+    @Benchmark
+    public Optional<User> findByEmail() {
+        return repository.findByEmail(email);
+    }
+
+    @Benchmark
+    public boolean existsByEmail() {
+        return repository.existsByEmail(email);
+    }
+
+    @Benchmark
+    public List<User> findByEmailIn() {
+        return repository.findByEmailIn(emails);
+    }
+
+    @Benchmark
+    public List<String> findExistingEmails() {
+        return repository.findExistingEmails(emails);
+    }
+
+    @Benchmark
+    public List<User> findByDepartment() {
+        return repository.findByDepartment(department);
+    }
+
+    @Benchmark
+    public List<User> findUsersByDepartmentSorted() {
+        return repository.findUsersByDepartmentSorted(department);
+    }
+
+    @Benchmark
+    public long countByDepartment() {
+        return repository.countByDepartment(department);
+    }
+
+    @Benchmark
+    public List<User> findByAgeBetween() {
+        return repository.findByAgeBetween(30, 31);
+    }
+
+    @Benchmark
+    public List<User> findByFirstNameContainingIgnoreCase() {
+        return repository.findByFirstNameContainingIgnoreCase("first123");
+    }
+
+    @Benchmark
+    public List<User> findChangedBetween() {
+        return repository.findChangedBetween(rows / 2, rows, PageRequest.of(0, 100));
+    }
+
+    @Benchmark
+    public long findMaxChangeSeq() {
+        return repository.findMaxChangeSeq();
+    }
+
+    @Benchmark
+    public void streamAllOrderedById(Blackhole blackhole) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<User> users = repository.streamAllOrderedById()) {
+                users.forEach(blackhole::consume);
+            }
+        });
+    }
+
+    /**
+     * Only the persistence layer: entities, repositories and the change sequencer used by the entity listener
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    @Import(ChangeSequencer.class)
+    static class RepositoryBenchmarkApplication {
+    }
+}
@@ -0,0 +1,312 @@
+package com.restacademy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.restacademy.RestAcademyApplication;
+import com.restacademy.loadtest.VirtualUser.Operation;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load test of the user API with a regression gate.
+ *
+ * Starts the application on a random port (or targets {@code --base-url}), lets {@code --clients} closed-loop
+ * {@link VirtualUser}s log in and run the operation mix for {@code --warmup-seconds}, then measures for
+ * {@code --seconds}. Latencies go into HdrHistograms per operation; the summary is printed and written to
+ * {@code --output} ({@code result.json}, plus {@code latency.hgrm} for the HdrHistogram plotter).
+ *
+ * The run is compared with {@code --baseline}: it fails (exit status 1) when p99 rose by more than
+ * {@code --max-p99-increase} percent, throughput fell by more than {@code --max-throughput-decrease} percent or
+ * more than {@code --max-error-percent} of the requests failed. {@code --update-baseline=true} stores the run as
+ * the new baseline instead. Baselines are machine specific; record them where the gate runs.
+ * <pre>
+ * mvn -Ploadtest -DskipTests verify -Dloadtest.args="--clients=32 --seconds=60"
+ * </pre>
+ * Clients wait for each response before sending the next request (closed model), so latency under overload
+ * shows up as lower throughput rather than as queueing delay.
+ */
+public class LoadTest {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int clients = Integer.parseInt(options.getOrDefault("clients", "16"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "30"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "10"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        // Defaults match the sample data; for a perf-seed instance pass a seeded account and its user count
+        Account account = new Account(options.getOrDefault("email", "john.doe@example.com"),
+            options.getOrDefault("password", "password123"),
+            Integer.parseInt(options.getOrDefault("user-ids", "8")));
+        Path output = Path.of(options.getOrDefault("output", "target/loadtest"));
+        Path baselineFile = Path.of(options.getOrDefault("baseline", "src/loadtest/baseline.json"));
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Summary summary;
+        if (options.containsKey("base-url")) {
+            summary = run(options.get("base-url"), account, clients, seconds, warmupSeconds, seed, objectMapper);
+        } else {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RestAcademyApplication.class)
+                    // Arguments rather than builder properties, which application.properties would override.
+                    // One account drives all clients; per-subject throttling and shedding would skew the numbers.
+                    .run("--server.port=0",
+                        "--rate-limit.enabled=false",
+                        "--concurrency-limit.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.restacademy=ERROR",
+                        "--logging.level.org.springframework.web=WARN")) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                summary = run("http://localhost:" + port, account, clients, seconds, warmupSeconds, seed, objectMapper);
+            }
+        }
+
+        summary.print(System.out);
+        Files.createDirectories(output);
+        objectMapper.writeValue(output.resolve("result.json").toFile(), summary.toJson());
+        try (PrintStream hgrm = new PrintStream(output.resolve("latency.hgrm").toFile())) {
+            // Values in milliseconds
+            summary.total.outputPercentileDistribution(hgrm, 1e6);
+        }
+        System.out.println("Results written to " + output.toAbsolutePath());
+
+        if (Boolean.parseBoolean(options.getOrDefault("update-baseline", "false"))) {
+            Map<String, Object> baseline = new LinkedHashMap<>();
+            baseline.put("clients", clients);
+            baseline.put("seconds", seconds);
+            baseline.put("throughput", round(summary.throughput()));
+            baseline.put("p99Ms", round(summary.percentileMillis(summary.total, 99)));
+            objectMapper.writeValue(baselineFile.toFile(), baseline);
+            System.out.println("Baseline updated: " + baselineFile);
+            return;
+        }
+        List<String> failures = check(summary, baselineFile, objectMapper,
+            Double.parseDouble(options.getOrDefault("max-p99-increase", "25")),
+            Double.parseDouble(options.getOrDefault("max-throughput-decrease", "15")),
+            Double.parseDouble(options.getOrDefault("max-error-percent", "1")));
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.out.println("FAILED: " + failure));
+            System.exit(1);
+        }
+        System.out.println("Load test passed");
+    }
+
+    private static Summary run(String baseUrl, Account account, int clients, int seconds, int warmupSeconds,
+                               long seed, ObjectMapper objectMapper) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        List<VirtualUser> users = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            VirtualUser user = new VirtualUser(httpClient, objectMapper, baseUrl, i, seed, account.email(),
+                account.password(), account.userIds());
+            user.login();
+            users.add(user);
+        }
+        if (warmupSeconds > 0) {
+            drive(users, Duration.ofSeconds(warmupSeconds));
+        }
+        return drive(users, Duration.ofSeconds(seconds));
+    }
+
+    private static Summary drive(List<VirtualUser> users, Duration duration) throws InterruptedException {
+        Summary summary = new Summary(users.size(), duration);
+        List<Thread> threads = new ArrayList<>(users.size());
+        List<Summary> partials = new ArrayList<>(users.size());
+        long deadline = System.nanoTime() + duration.toNanos();
+        for (VirtualUser user : users) {
+            Summary partial = new Summary(users.size(), duration);
+            partials.add(partial);
+            Thread thread = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = user.nextOperation();
+                    long start = System.nanoTime();
+                    boolean failed;
+                    try {
+                        failed = user.execute(operation) >= 400;
+                    } catch (Exception e) {
+                        failed = true;
+                    }
+                    partial.record(operation, System.nanoTime() - start, failed);
+                }
+            }, "load-client-" + threads.size());
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        partials.forEach(summary::add);
+        return summary;
+    }
+
+    private static List<String> check(Summary summary, Path baselineFile, ObjectMapper objectMapper,
+                                      double maxP99Increase, double maxThroughputDecrease, double maxErrorPercent)
+            throws IOException {
+        List<String> failures = new ArrayList<>();
+        double errorPercent = summary.total.getTotalCount() == 0 ? 100
+            : 100.0 * summary.errors() / summary.total.getTotalCount();
+        if (errorPercent > maxErrorPercent) {
+            failures.add(String.format(Locale.ROOT, "%.2f%% of requests failed (limit %.2f%%)",
+                errorPercent, maxErrorPercent));
+        }
+        File file = baselineFile.toFile();
+        if (!file.exists()) {
+            System.out.println("No baseline at " + baselineFile + "; run with --update-baseline=true to record one");
+            return failures;
+        }
+        JsonNode baseline = objectMapper.readTree(file);
+        if (baseline.path("clients").asInt() != summary.clients) {
+            System.out.println("Baseline was recorded with " + baseline.path("clients").asInt()
+                + " clients; not comparing");
+            return failures;
+        }
+        double baselineP99 = baseline.path("p99Ms").asDouble();
+        double baselineThroughput = baseline.path("throughput").asDouble();
+        double p99 = summary.percentileMillis(summary.total, 99);
+        double throughput = summary.throughput();
+        System.out.printf(Locale.ROOT, "Baseline: %.0f req/s, p99 %.2f ms; now %.0f req/s (%+.1f%%), p99 %.2f ms (%+.1f%%)%n",
+            baselineThroughput, baselineP99, throughput, (throughput / baselineThroughput - 1) * 100,
+            p99, (p99 / baselineP99 - 1) * 100);
+        if (p99 > baselineP99 * (1 + maxP99Increase / 100)) {
+            failures.add(String.format(Locale.ROOT, "p99 %.2f ms exceeds baseline %.2f ms by more than %.0f%%",
+                p99, baselineP99, maxP99Increase));
+        }
+        if (throughput < baselineThroughput * (1 - maxThroughputDecrease / 100)) {
+            failures.add(String.format(Locale.ROOT, "throughput %.0f req/s is more than %.0f%% below baseline %.0f req/s",
+                throughput, maxThroughputDecrease, baselineThroughput));
+        }
+        return failures;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Account(String email, String password, int userIds) {
+    }
+
+    /**
+     * Latency histograms and error counts, overall and per operation
+     */
+    private static final class Summary {
+
+        private final int clients;
+        private final Duration duration;
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final Map<Operation, Histogram> byOperation = new LinkedHashMap<>();
+        private final Map<Operation, long[]> errorsByOperation = new LinkedHashMap<>();
+
+        Summary(int clients, Duration duration) {
+            this.clients = clients;
+            this.duration = duration;
+            for (Operation operation : Operation.values()) {
+                byOperation.put(operation, new Histogram(HIGHEST_TRACKABLE_NANOS, 3));
+                errorsByOperation.put(operation, new long[1]);
+            }
+        }
+
+        void record(Operation operation, long nanos, boolean failed) {
+            long value = Math.min(nanos, HIGHEST_TRACKABLE_NANOS);
+            total.recordValue(value);
+            byOperation.get(operation).recordValue(value);
+            if (failed) {
+                errorsByOperation.get(operation)[0]++;
+            }
+        }
+
+        void add(Summary other) {
+            total.add(other.total);
+            for (Operation operation : Operation.values()) {
+                byOperation.get(operation).add(other.byOperation.get(operation));
+                errorsByOperation.get(operation)[0] += other.errorsByOperation.get(operation)[0];
+            }
+        }
+
+        long errors() {
+            return errorsByOperation.values().stream().mapToLong(count -> count[0]).sum();
+        }
+
+        double throughput() {
+            return total.getTotalCount() / (duration.toNanos() / 1e9);
+        }
+
+        double percentileMillis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1e6;
+        }
+
+        void print(PrintStream out) {
+            out.printf(Locale.ROOT, "%n%d clients, %d s: %d requests, %.0f req/s, %d errors%n", clients,
+                duration.toSeconds(), total.getTotalCount(), throughput(), errors());
+            out.printf(Locale.ROOT, "%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+            byOperation.forEach((operation, histogram) ->
+                printRow(out, operation.name(), histogram, errorsByOperation.get(operation)[0]));
+            printRow(out, "TOTAL", total, errors());
+        }
+
+        private void printRow(PrintStream out, String name, Histogram histogram, long errors) {
+            out.printf(Locale.ROOT, "%-14s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(),
+                errors, percentileMillis(histogram, 50), percentileMillis(histogram, 90),
+                percentileMillis(histogram, 99), percentileMillis(histogram, 99.9), histogram.getMaxValue() / 1e6);
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("clients", clients);
+            json.put("seconds", duration.toSeconds());
+            json.put("requests", total.getTotalCount());
+            json.put("errors", errors());
+            json.put("throughput", round(throughput()));
+            json.put("latencyMs", percentiles(total));
+            Map<String, Object> operations = new LinkedHashMap<>();
+            byOperation.forEach((operation, histogram) -> {
+                Map<String, Object> entry = percentiles(histogram);
+                entry.put("requests", histogram.getTotalCount());
+                entry.put("errors", errorsByOperation.get(operation)[0]);
+                operations.put(operation.name(), entry);
+            });
+            json.put("operations", operations);
+            return json;
+        }
+
+        private Map<String, Object> percentiles(Histogram histogram) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("p50", round(percentileMillis(histogram, 50)));
+            values.put("p90", round(percentileMillis(histogram, 90)));
+            values.put("p99", round(percentileMillis(histogram, 99)));
+            values.put("p999", round(percentileMillis(histogram, 99.9)));
+            values.put("max", round(histogram.getMaxValue() / 1e6));
+            return values;
+        }
+    }
+}
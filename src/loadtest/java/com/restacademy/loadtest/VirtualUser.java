@@ -0,0 +1,186 @@
+package com.restacademy.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * One simulated API client. Logs in through {@code /api/v1/auth/login}, then issues a weighted mix of user
+ * reads, searches, pages and writes with the token. Writes only touch users this client created, so clients
+ * never conflict and the existing data stays intact. Reads by id pick from ids 1 to {@code readableUsers}.
+ * The random sequence is seeded, so a run is reproducible.
+ */
+class VirtualUser {
+
+    /**
+     * Operations and their share of the mix, in percent
+     */
+    enum Operation {
+        GET_BY_ID(30),
+        LIST_PAGE(20),
+        SEARCH(10),
+        BY_DEPARTMENT(10),
+        AGE_RANGE(5),
+        CREATE(10),
+        UPDATE(8),
+        DELETE(4),
+        LOGIN(3);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+    }
+
+    private static final Operation[] BY_ROLL = new Operation[100];
+
+    static {
+        int index = 0;
+        for (Operation operation : Operation.values()) {
+            for (int i = 0; i < operation.weight; i++) {
+                BY_ROLL[index++] = operation;
+            }
+        }
+        if (index != BY_ROLL.length) {
+            throw new IllegalStateException("Operation weights must add up to 100, got " + index);
+        }
+    }
+
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Mike", "Sarah", "David", "Emily", "Chris", "Lisa"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Marketing", "HR", "Finance", "Sales"};
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final int clientId;
+    private final int readableUsers;
+    private final Random random;
+    private final String loginBody;
+    private final Deque<Long> ownUsers = new ArrayDeque<>();
+    private String token;
+    private int created;
+
+    VirtualUser(HttpClient client, ObjectMapper objectMapper, String baseUrl, int clientId, long seed,
+                String email, String password, int readableUsers) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.clientId = clientId;
+        this.readableUsers = readableUsers;
+        this.random = new Random(seed * 31 + clientId);
+        this.loginBody = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+    }
+
+    /**
+     * Log in and keep the token for the following requests
+     */
+    void login() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/api/v1/auth/login", loginBody, false));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        token = objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    Operation nextOperation() {
+        Operation operation = BY_ROLL[random.nextInt(BY_ROLL.length)];
+        // Nothing of our own to modify yet
+        if ((operation == Operation.UPDATE || operation == Operation.DELETE) && ownUsers.isEmpty()) {
+            return Operation.CREATE;
+        }
+        return operation;
+    }
+
+    /**
+     * Execute one operation
+     * @return the HTTP status
+     */
+    int execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case GET_BY_ID -> send(get("/api/v1/users/" + (1 + random.nextInt(readableUsers)))).statusCode();
+            case LIST_PAGE -> send(get("/api/v1/users?page=" + random.nextInt(3) + "&size=10&sortBy=lastName"))
+                .statusCode();
+            case SEARCH -> send(get("/api/v1/users/search?firstName=" + pick(FIRST_NAMES).substring(0, 3)))
+                .statusCode();
+            case BY_DEPARTMENT -> send(get("/api/v1/users/department/" + pick(DEPARTMENTS))).statusCode();
+            case AGE_RANGE -> {
+                int minAge = 20 + random.nextInt(15);
+                yield send(get("/api/v1/users/age-range?minAge=" + minAge + "&maxAge=" + (minAge + 5))).statusCode();
+            }
+            case CREATE -> create();
+            case UPDATE -> update();
+            case DELETE -> send(delete("/api/v1/users/" + ownUsers.pollFirst())).statusCode();
+            case LOGIN -> {
+                login();
+                yield 200;
+            }
+        };
+    }
+
+    private int create() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/api/v1/users", userBody(created++), true));
+        if (response.statusCode() == 201) {
+            ownUsers.addLast(objectMapper.readTree(response.body()).get("id").asLong());
+        }
+        return response.statusCode();
+    }
+
+    private int update() throws IOException, InterruptedException {
+        long id = ownUsers.peekLast();
+        HttpRequest request = authorized("/api/v1/users/" + id)
+            .header("Content-Type", "application/json")
+            .PUT(HttpRequest.BodyPublishers.ofString(userBody(created++)))
+            .build();
+        return send(request).statusCode();
+    }
+
+    private String userBody(int sequence) {
+        return "{\"firstName\":\"" + pick(FIRST_NAMES) + "\",\"lastName\":\"Load" + clientId
+            + "\",\"email\":\"load-" + clientId + "-" + sequence + "@example.com\",\"age\":" + (20 + random.nextInt(40))
+            + ",\"department\":\"" + pick(DEPARTMENTS) + "\"}";
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest delete(String path) {
+        return authorized(path).DELETE().build();
+    }
+
+    private HttpRequest post(String path, String body, boolean authorized) {
+        HttpRequest.Builder builder = authorized ? authorized(path) : HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(TIMEOUT);
+        return builder.header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Authorization", "Bearer " + token)
+            .timeout(TIMEOUT);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
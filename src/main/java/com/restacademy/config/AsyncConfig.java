@@ -0,0 +1,60 @@
+package com.restacademy.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Async configuration
+ * Background jobs (imports, exports) run on their own small pool so they never compete with request threads.
+ * When a {@code virtualThreadFactory} bean is present (the {@code java21} build), MVC async work gets a
+ * virtual thread per task and the job pool runs its bounded number of workers on virtual threads.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String VIRTUAL_THREAD_FACTORY = "virtualThreadFactory";
+
+    /**
+     * Spring Boot's default executor backs off as soon as any other executor bean exists,
+     * so it is declared here explicitly for MVC async requests and plain {@code @Async}
+     */
+    @Lazy
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder,
+                                                     @Qualifier(VIRTUAL_THREAD_FACTORY)
+                                                     ObjectProvider<ThreadFactory> virtualThreadFactory) {
+        ThreadFactory threadFactory = virtualThreadFactory.getIfAvailable();
+        if (threadFactory != null) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+            executor.setThreadFactory(threadFactory);
+            return executor;
+        }
+        return builder.build();
+    }
+
+    @Bean(name = "jobExecutor")
+    public ThreadPoolTaskExecutor jobExecutor(@Value("${jobs.executor.threads:2}") int threads,
+                                              @Value("${jobs.executor.queue-capacity:16}") int queueCapacity,
+                                              @Qualifier(VIRTUAL_THREAD_FACTORY)
+                                              ObjectProvider<ThreadFactory> virtualThreadFactory) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("job-");
+        virtualThreadFactory.ifAvailable(executor::setThreadFactory);
+        return executor;
+    }
+}
@@ -0,0 +1,138 @@
+package com.restacademy.config;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Response wrapper that runs a callback once, as late as possible while headers can still be set: before the
+ * body is flushed, before a write would overflow the response buffer (which commits it), before errors and
+ * redirects, or when {@link #beforeCommit()} is called after the chain for responses that never committed.
+ *
+ * Small bodies are serialized completely before the callback, so headers computed there can cover
+ * serialization. Writers get no such guarantee; the callback runs when the writer is obtained.
+ */
+class BeforeCommitResponseWrapper extends HttpServletResponseWrapper {
+
+    private final Runnable callback;
+    private boolean done;
+    private long written;
+    private ServletOutputStream outputStream;
+
+    BeforeCommitResponseWrapper(HttpServletResponse response, Runnable callback) {
+        super(response);
+        this.callback = callback;
+    }
+
+    /**
+     * Run the callback unless it already ran or the response is committed
+     */
+    void beforeCommit() {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (!isCommitted()) {
+            callback.run();
+        }
+    }
+
+    /**
+     * Called the first time the body is requested as a stream
+     */
+    protected void onBodyStart() {
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            onBodyStart();
+            outputStream = done ? super.getOutputStream() : new CallbackOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        beforeCommit();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        beforeCommit();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        beforeCommit();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        beforeCommit();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        beforeCommit();
+        super.sendRedirect(location);
+    }
+
+    private final class CallbackOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        CallbackOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        private void beforeWrite(int length) {
+            written += length;
+            if (!done && written > getBufferSize()) {
+                beforeCommit();
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            beforeWrite(1);
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            beforeWrite(len);
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            beforeCommit();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            beforeCommit();
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.restacademy.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON converter that reuses one {@link ObjectWriter} per response type.
+ *
+ * The stock converter builds a fresh writer for every response and resolves the root serializer each time.
+ * For container types (lists, maps) and final types (records), where the declared type fully determines
+ * the serializer, the writer created here has its root serializer prefetched once and is cached. Writers
+ * customized with a JSON view or filters are left untouched.
+ */
+public class CachingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public CachingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        // Only a plain writer shares the mapper's configuration; views and filters create a new one.
+        // Event streams may carry a dedicated pretty printer, so they are left alone as well.
+        if (javaType == null || writer.getConfig() != getObjectMapper().getSerializationConfig()
+                || (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM))) {
+            return writer;
+        }
+        if (!javaType.isContainerType() && !javaType.isFinal()) {
+            return writer;
+        }
+        return writers.computeIfAbsent(javaType, type -> getObjectMapper().writerFor(type));
+    }
+}
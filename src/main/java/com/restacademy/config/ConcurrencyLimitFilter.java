@@ -0,0 +1,103 @@
+package com.restacademy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.exception.GlobalExceptionHandler;
+import com.restacademy.exception.GlobalExceptionHandler.Problem;
+import com.restacademy.service.concurrency.AdaptiveConcurrencyLimiter;
+import com.restacademy.service.concurrency.AdaptiveConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load shedding filter
+ * Admits API requests through the {@link AdaptiveConcurrencyLimiter} before any security or MVC work is done
+ * and rejects the rest immediately with 503 instead of letting them queue in Tomcat. Bulk listings are shed
+ * first, critical paths (health, auth) last.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final List<AntPathRequestMatcher> criticalPaths;
+    private final List<AntPathRequestMatcher> bulkPaths;
+    private final Map<Priority, Counter> shed = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ConcurrencyLimitProperties properties,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.criticalPaths = properties.getCriticalPaths().stream().map(ConcurrencyLimitFilter::matcher).toList();
+        this.bulkPaths = properties.getBulkPaths().stream().map(ConcurrencyLimitFilter::matcher).toList();
+        for (Priority priority : Priority.values()) {
+            shed.put(priority, Counter.builder("http.server.requests.shed")
+                .description("Requests rejected by the adaptive concurrency limit")
+                .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Priority priority = priority(request);
+        long start = limiter.tryAcquire(priority);
+        if (start < 0) {
+            shed.get(priority).increment();
+            response.setHeader("Retry-After", "1");
+            response.setStatus(Problem.OVERLOADED.getStatus().value());
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), GlobalExceptionHandler.problemDetail(
+                Problem.OVERLOADED, "Server is overloaded, please retry", request));
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            // Async requests (SSE, streaming) release their thread here but their latency means nothing
+            limiter.release(start, completed && !request.isAsyncStarted() && response.getStatus() < 500);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return true;
+    }
+
+    private Priority priority(HttpServletRequest request) {
+        for (AntPathRequestMatcher matcher : criticalPaths) {
+            if (matcher.matches(request)) {
+                return Priority.CRITICAL;
+            }
+        }
+        for (AntPathRequestMatcher matcher : bulkPaths) {
+            if (matcher.matches(request)) {
+                return Priority.BULK;
+            }
+        }
+        return Priority.NORMAL;
+    }
+
+    private static AntPathRequestMatcher matcher(String entry) {
+        int space = entry.indexOf(' ');
+        return space > 0
+            ? new AntPathRequestMatcher(entry.substring(space + 1).trim(), entry.substring(0, space))
+            : new AntPathRequestMatcher(entry.trim());
+    }
+}
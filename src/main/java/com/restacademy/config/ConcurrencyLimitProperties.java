@@ -0,0 +1,134 @@
+package com.restacademy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adaptive concurrency limiting settings ({@code concurrency-limit.*})
+ * Path entries are Ant patterns, optionally prefixed with an HTTP method ({@code "GET /api/v1/users"}).
+ */
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private int initialLimit = 50;
+    private int minLimit = 8;
+    private int maxLimit = 400;
+    private double smoothing = 0.2;
+    private double tolerance = 1.5;
+    private Duration window = Duration.ofMillis(500);
+    private int minWindowSamples = 20;
+    private int longWindowSamples = 60;
+    private double normalShare = 0.9;
+    private double bulkShare = 0.6;
+    private List<String> criticalPaths = new ArrayList<>();
+    private List<String> bulkPaths = new ArrayList<>();
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getMinWindowSamples() {
+        return minWindowSamples;
+    }
+
+    public void setMinWindowSamples(int minWindowSamples) {
+        this.minWindowSamples = minWindowSamples;
+    }
+
+    public int getLongWindowSamples() {
+        return longWindowSamples;
+    }
+
+    public void setLongWindowSamples(int longWindowSamples) {
+        this.longWindowSamples = longWindowSamples;
+    }
+
+    public double getNormalShare() {
+        return normalShare;
+    }
+
+    public void setNormalShare(double normalShare) {
+        this.normalShare = normalShare;
+    }
+
+    public double getBulkShare() {
+        return bulkShare;
+    }
+
+    public void setBulkShare(double bulkShare) {
+        this.bulkShare = bulkShare;
+    }
+
+    public List<String> getCriticalPaths() {
+        return criticalPaths;
+    }
+
+    public void setCriticalPaths(List<String> criticalPaths) {
+        this.criticalPaths = criticalPaths;
+    }
+
+    public List<String> getBulkPaths() {
+        return bulkPaths;
+    }
+
+    public void setBulkPaths(List<String> bulkPaths) {
+        this.bulkPaths = bulkPaths;
+    }
+}
@@ -4,6 +4,7 @@ import com.restacademy.model.User;
 import com.restacademy.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -13,7 +14,8 @@ import org.springframework.stereotype.Component;
  * Loads sample data into the database on startup
  */
 @Component
-@Profile("!no-data") // Only run if 'no-data' profile is NOT active
+@Profile("!no-data & !perf-seed") // Only run if neither the 'no-data' nor the 'perf-seed' profile is active
+@ConditionalOnProperty(name = "snapshot.restore-on-startup", havingValue = "false", matchIfMissing = true)
 public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
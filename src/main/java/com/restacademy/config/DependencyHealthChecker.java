@@ -0,0 +1,190 @@
+package com.restacademy.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks the database and its connection pool on a background thread and caches the results, so health
+ * probes only read a precomputed {@link Health} instead of borrowing a connection each time.
+ *
+ * The results back the {@code database} and {@code connectionPool} health indicators of the readiness group
+ * and {@code GET /api/v1/health}. Until the first check completes both are OUT_OF_SERVICE; a result older than
+ * {@code health-checks.max-age} (e.g. because the check hangs on an exhausted pool) is reported as DOWN.
+ */
+public class DependencyHealthChecker {
+
+    private static final Logger log = LoggerFactory.getLogger(DependencyHealthChecker.class);
+
+    private static final String SERVICE = "RestAcademy API";
+    private static final String VERSION = "1.0.0";
+
+    private final DataSource dataSource;
+    private final HealthCheckProperties properties;
+    private final int timeoutSeconds;
+    private final long maxAgeNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Result pending;
+    private final Result stale;
+    private volatile Result result;
+
+    public DependencyHealthChecker(DataSource dataSource, HealthCheckProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.timeoutSeconds = (int) Math.max(1, (properties.getTimeout().toMillis() + 999) / 1000);
+        this.maxAgeNanos = properties.getMaxAge().toNanos();
+        Health notChecked = Health.outOfService().withDetail("state", "pending").build();
+        this.pending = Result.of(notChecked, notChecked, Long.MAX_VALUE);
+        Health outdated = Health.down()
+            .withDetail("error", "No completed check within " + properties.getMaxAge().toMillis() + " ms").build();
+        this.stale = Result.of(outdated, outdated, Long.MAX_VALUE);
+        this.result = pending;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::check, 0, properties.getInterval().toMillis(),
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Latest database reachability result
+     */
+    public Health database() {
+        return current().database();
+    }
+
+    /**
+     * Latest connection pool saturation result
+     */
+    public Health connectionPool() {
+        return current().connectionPool();
+    }
+
+    /**
+     * Precomputed body of {@code GET /api/v1/health} for the latest results
+     */
+    public Map<String, Object> body() {
+        return current().body();
+    }
+
+    public Status status() {
+        return current().status();
+    }
+
+    private Result current() {
+        Result latest = result;
+        if (latest != pending && System.nanoTime() - latest.checkedAtNanos() > maxAgeNanos) {
+            return stale;
+        }
+        return latest;
+    }
+
+    private void check() {
+        try {
+            Health database = checkDatabase();
+            Health connectionPool = checkConnectionPool();
+            Result previous = result;
+            result = Result.of(database, connectionPool, System.nanoTime());
+            if (previous != pending && !previous.status().equals(result.status())) {
+                log.warn("Dependency health changed from {} to {}: database {}, connection pool {}",
+                    previous.status(), result.status(), database.getStatus(), connectionPool.getStatus());
+            }
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the previous result goes stale if this keeps failing
+            log.error("Dependency health check failed", e);
+        }
+    }
+
+    private Health checkDatabase() {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean valid = connection.isValid(timeoutSeconds);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            Health.Builder health = valid ? Health.up() : Health.down().withDetail("error", "Connection is not valid");
+            return health.withDetail("database", connection.getMetaData().getDatabaseProductName())
+                .withDetail("validationMillis", millis)
+                .build();
+        } catch (SQLException e) {
+            return Health.down(e).build();
+        }
+    }
+
+    private Health checkConnectionPool() {
+        HikariDataSource hikari = hikari();
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return Health.unknown().withDetail("error", "No HikariCP pool").build();
+        }
+        int max = hikari.getMaximumPoolSize();
+        int active = pool.getActiveConnections();
+        int pendingThreads = pool.getThreadsAwaitingConnection();
+        double usage = max > 0 ? (double) active / max : 0;
+        boolean saturated = usage >= properties.getPoolSaturation()
+            || pendingThreads > properties.getMaxPendingThreads();
+        return (saturated ? Health.outOfService() : Health.up())
+            .withDetail("active", active)
+            .withDetail("idle", pool.getIdleConnections())
+            .withDetail("total", pool.getTotalConnections())
+            .withDetail("max", max)
+            .withDetail("pendingThreads", pendingThreads)
+            .withDetail("usage", Math.round(usage * 100) / 100.0)
+            .build();
+    }
+
+    // The data source may be wrapped (e.g. by the query statistics proxy)
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private record Result(Health database, Health connectionPool, Status status, Map<String, Object> body,
+                          long checkedAtNanos) {
+
+        static Result of(Health database, Health connectionPool, long checkedAtNanos) {
+            Status status = worst(database.getStatus(), connectionPool.getStatus());
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("status", status.getCode());
+            body.put("timestamp", LocalDateTime.now());
+            body.put("service", SERVICE);
+            body.put("version", VERSION);
+            body.put("database", database.getStatus().getCode());
+            body.put("connectionPool", connectionPool.getStatus().getCode());
+            return new Result(database, connectionPool, status, Collections.unmodifiableMap(body), checkedAtNanos);
+        }
+
+        // An unknown pool (not HikariCP) does not affect the overall status
+        private static Status worst(Status first, Status second) {
+            for (Status status : new Status[] {Status.DOWN, Status.OUT_OF_SERVICE}) {
+                if (status.equals(first) || status.equals(second)) {
+                    return status;
+                }
+            }
+            return Status.UP;
+        }
+    }
+}
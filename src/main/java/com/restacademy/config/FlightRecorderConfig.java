@@ -0,0 +1,25 @@
+package com.restacademy.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Java Flight Recorder configuration
+ * Registers the aspect emitting the user lookup and repository query events, and the {@code jfr} actuator
+ * endpoint that records them on demand. JWT, password hashing and serialization events are emitted in place.
+ */
+@Configuration
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+public class FlightRecorderConfig {
+
+    @Bean
+    public FlightRecorderEventAspect flightRecorderEventAspect() {
+        return new FlightRecorderEventAspect();
+    }
+
+    @Bean
+    public FlightRecorderEndpoint flightRecorderEndpoint(FlightRecorderProperties properties) {
+        return new FlightRecorderEndpoint(properties);
+    }
+}
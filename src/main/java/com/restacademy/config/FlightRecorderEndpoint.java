@@ -0,0 +1,180 @@
+package com.restacademy.config;
+
+import com.restacademy.service.jfr.JwtValidationEvent;
+import com.restacademy.service.jfr.PasswordHashEvent;
+import com.restacademy.service.jfr.RepositoryQueryEvent;
+import com.restacademy.service.jfr.ResponseSerializationEvent;
+import com.restacademy.service.jfr.UserLookupEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Flight recording endpoint ({@code /actuator/jfr})
+ * {@code GET} shows the recording state, {@code POST /actuator/jfr/start} starts a bounded recording with the
+ * application's events enabled, {@code POST /actuator/jfr/dump} writes what it holds so far to
+ * {@code jfr.recording.directory}, and {@code POST /actuator/jfr/stop} dumps and closes it. A recording that reached
+ * {@code jfr.recording.max-duration} is stopped but keeps its data, so it can still be dumped and closed.
+ */
+@WebEndpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+
+    private static final List<Class<? extends jdk.jfr.Event>> EVENTS = List.of(JwtValidationEvent.class,
+        UserLookupEvent.class, RepositoryQueryEvent.class, PasswordHashEvent.class, ResponseSerializationEvent.class);
+    private static final DateTimeFormatter DUMP_NAME = DateTimeFormatter.ofPattern("'rest-academy-'yyyyMMdd-HHmmss-SSS'.jfr'");
+
+    private final FlightRecorderProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private Path lastDump;
+
+    public FlightRecorderEndpoint(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        lock.lock();
+        try {
+            return describe();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> control(@Selector String action) {
+        lock.lock();
+        try {
+            return switch (action) {
+                case "start" -> start();
+                case "dump" -> hasData() ? ok(dump()) : conflict();
+                case "stop" -> hasData() ? ok(stop()) : conflict();
+                default -> new WebEndpointResponse<>(Map.of("error", "Unknown action '" + action
+                    + "', expected start, dump or stop"), WebEndpointResponse.STATUS_BAD_REQUEST);
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private WebEndpointResponse<Map<String, Object>> start() {
+        if (isRunning()) {
+            return conflict();
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(properties.getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings '" + properties.getSettings() + "'", e);
+        }
+        if (recording != null) {
+            recording.close();
+        }
+        recording = new Recording(configuration);
+        recording.setName("rest-academy");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.setDuration(properties.getMaxDuration());
+        EVENTS.forEach(recording::enable);
+        recording.start();
+        log.info("Flight recording started (settings={}, maxAge={}, maxSize={}, maxDuration={})",
+            properties.getSettings(), properties.getMaxAge(), properties.getMaxSize(), properties.getMaxDuration());
+        return ok(describe());
+    }
+
+    private Map<String, Object> dump() {
+        Path directory = Paths.get(properties.getDirectory());
+        Path file = directory.resolve(DUMP_NAME.format(LocalDateTime.now()));
+        try {
+            Files.createDirectories(directory);
+            recording.dump(file);
+            pruneDumps(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write flight recording to " + file, e);
+        }
+        lastDump = file;
+        log.info("Flight recording dumped to {}", file);
+        return describe();
+    }
+
+    private Map<String, Object> stop() {
+        dump();
+        recording.close();
+        recording = null;
+        log.info("Flight recording stopped");
+        return describe();
+    }
+
+    private void pruneDumps(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            // Names sort chronologically
+            List<Path> dumps = files.filter(path -> path.getFileName().toString().startsWith("rest-academy-"))
+                .sorted()
+                .toList();
+            for (int i = 0; i < dumps.size() - properties.getMaxDumps(); i++) {
+                Files.deleteIfExists(dumps.get(i));
+            }
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    // Running, or stopped after max-duration and not closed yet
+    private boolean hasData() {
+        return recording != null
+            && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.STOPPED);
+    }
+
+    private Map<String, Object> describe() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("size", recording.getSize());
+        }
+        status.put("settings", properties.getSettings());
+        status.put("maxAge", properties.getMaxAge().toString());
+        status.put("maxSize", properties.getMaxSize().toString());
+        status.put("maxDuration", properties.getMaxDuration().toString());
+        status.put("directory", properties.getDirectory());
+        if (lastDump != null) {
+            status.put("lastDump", lastDump.toString());
+        }
+        return status;
+    }
+
+    private static WebEndpointResponse<Map<String, Object>> ok(Map<String, Object> body) {
+        return new WebEndpointResponse<>(body);
+    }
+
+    private WebEndpointResponse<Map<String, Object>> conflict() {
+        return new WebEndpointResponse<>(describe(), 409);
+    }
+}
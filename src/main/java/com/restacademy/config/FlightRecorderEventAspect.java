@@ -0,0 +1,98 @@
+package com.restacademy.config;
+
+import com.restacademy.service.jfr.RepositoryQueryEvent;
+import com.restacademy.service.jfr.UserLookupEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Emits {@link UserLookupEvent}s for {@code UserService} reads and {@link RepositoryQueryEvent}s for Spring Data
+ * repository calls. While no recording has the events enabled, a call costs one {@code isEnabled()} check.
+ * Failed calls are recorded too, with the exception they threw.
+ */
+@Aspect
+public class FlightRecorderEventAspect {
+
+    // The repository interface the application declared (UserRepository), not the Spring Data interface that
+    // declares an inherited method (ListCrudRepository.findAll)
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate != Repository.class) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        }
+    };
+
+    @Around("execution(public * com.restacademy.service.UserService.get*(..))"
+        + " || execution(public * com.restacademy.service.UserService.search*(..))"
+        + " || execution(public * com.restacademy.service.UserService.loadUserByUsername(..))")
+    public Object recordUserLookup(ProceedingJoinPoint joinPoint) throws Throwable {
+        UserLookupEvent event = new UserLookupEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        event.operation = joinPoint.getSignature().getName();
+        try {
+            Object result = joinPoint.proceed();
+            event.users = rows(result);
+            return result;
+        } catch (Throwable e) {
+            event.exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object recordRepositoryQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        event.repository = REPOSITORY_NAMES.get(joinPoint.getTarget().getClass());
+        event.query = joinPoint.getSignature().getName();
+        try {
+            Object result = joinPoint.proceed();
+            event.rows = rows(result);
+            return result;
+        } catch (Throwable e) {
+            event.exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,71 @@
+package com.restacademy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * On-demand flight recording settings ({@code jfr.recording.*})
+ * The recording keeps at most {@code max-age} / {@code max-size} of data and stops by itself after
+ * {@code max-duration}; dumps beyond the newest {@code max-dumps} are deleted.
+ */
+@ConfigurationProperties(prefix = "jfr.recording")
+public class FlightRecorderProperties {
+
+    private String settings = "profile";
+    private Duration maxAge = Duration.ofMinutes(15);
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+    private Duration maxDuration = Duration.ofMinutes(30);
+    private String directory = System.getProperty("java.io.tmpdir") + "/rest-academy-jfr";
+    private int maxDumps = 5;
+
+    // Getters and Setters
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getMaxDumps() {
+        return maxDumps;
+    }
+
+    public void setMaxDumps(int maxDumps) {
+        this.maxDumps = maxDumps;
+    }
+}
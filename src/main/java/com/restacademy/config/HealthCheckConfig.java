@@ -0,0 +1,34 @@
+package com.restacademy.config;
+
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Dependency health configuration
+ * Registers the background dependency checker and its cached results as the {@code database} and
+ * {@code connectionPool} health indicators of the readiness group. Spring Boot's own {@code db} indicator,
+ * which queries the database on every probe, is turned off with {@code management.health.db.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(HealthCheckProperties.class)
+public class HealthCheckConfig {
+
+    @Bean
+    public DependencyHealthChecker dependencyHealthChecker(DataSource dataSource, HealthCheckProperties properties) {
+        return new DependencyHealthChecker(dataSource, properties);
+    }
+
+    @Bean
+    public HealthIndicator databaseHealthIndicator(DependencyHealthChecker checker) {
+        return checker::database;
+    }
+
+    @Bean
+    public HealthIndicator connectionPoolHealthIndicator(DependencyHealthChecker checker) {
+        return checker::connectionPool;
+    }
+}
@@ -0,0 +1,62 @@
+package com.restacademy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Dependency health check settings ({@code health-checks.*})
+ * Checks run every {@code interval} in the background; a result older than {@code max-age} is reported as
+ * DOWN. The connection pool counts as saturated when {@code pool-saturation} of its connections are in use
+ * or more than {@code max-pending-threads} threads wait for one.
+ */
+@ConfigurationProperties(prefix = "health-checks")
+public class HealthCheckProperties {
+
+    private Duration interval = Duration.ofSeconds(2);
+    private Duration timeout = Duration.ofSeconds(1);
+    private Duration maxAge = Duration.ofSeconds(10);
+    private double poolSaturation = 0.9;
+    private int maxPendingThreads = 5;
+
+    // Getters and Setters
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public double getPoolSaturation() {
+        return poolSaturation;
+    }
+
+    public void setPoolSaturation(double poolSaturation) {
+        this.poolSaturation = poolSaturation;
+    }
+
+    public int getMaxPendingThreads() {
+        return maxPendingThreads;
+    }
+
+    public void setMaxPendingThreads(int maxPendingThreads) {
+        this.maxPendingThreads = maxPendingThreads;
+    }
+}
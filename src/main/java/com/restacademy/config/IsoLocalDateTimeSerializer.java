@@ -0,0 +1,97 @@
+package com.restacademy.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * {@link LocalDateTime} serializer producing exactly the output of {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}
+ * ({@code 2024-01-31T09:05:00}, fraction without trailing zeros) by writing digits straight into a char
+ * buffer from a precomputed two-digit table, instead of running the general-purpose formatter per value.
+ * Timestamp output, custom {@code @JsonFormat} patterns and years outside 0000-9999 fall back to the
+ * standard serializer.
+ */
+public class IsoLocalDateTimeSerializer extends LocalDateTimeSerializer {
+
+    public static final IsoLocalDateTimeSerializer INSTANCE = new IsoLocalDateTimeSerializer();
+
+    private static final char[] DIGIT_PAIRS = new char[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[i * 2] = (char) ('0' + i / 10);
+            DIGIT_PAIRS[i * 2 + 1] = (char) ('0' + i % 10);
+        }
+    }
+
+    protected IsoLocalDateTimeSerializer() {
+        super();
+    }
+
+    protected IsoLocalDateTimeSerializer(IsoLocalDateTimeSerializer base, Boolean useTimestamp,
+                                         Boolean useNanoseconds, DateTimeFormatter formatter) {
+        super(base, useTimestamp, useNanoseconds, formatter);
+    }
+
+    @Override
+    protected LocalDateTimeSerializer withFormat(Boolean useTimestamp, DateTimeFormatter formatter,
+                                                 JsonFormat.Shape shape) {
+        return new IsoLocalDateTimeSerializer(this, useTimestamp, _useNanoseconds, formatter);
+    }
+
+    @Override
+    protected LocalDateTimeSerializer withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
+        return new IsoLocalDateTimeSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        int year = value.getYear();
+        if (_formatter != null || year < 0 || year > 9999 || useTimestamp(provider)) {
+            super.serialize(value, generator, provider);
+            return;
+        }
+        char[] buffer = new char[29];
+        writePair(buffer, 0, year / 100);
+        writePair(buffer, 2, year % 100);
+        buffer[4] = '-';
+        writePair(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        writePair(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        writePair(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        writePair(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        writePair(buffer, 17, value.getSecond());
+        int length = 19;
+
+        int nanos = value.getNano();
+        if (nanos != 0) {
+            // Fraction of second with trailing zeros dropped, as ISO_LOCAL_TIME prints it
+            int digits = 9;
+            while (nanos % 10 == 0) {
+                nanos /= 10;
+                digits--;
+            }
+            buffer[19] = '.';
+            for (int i = 19 + digits; i > 19; i--) {
+                buffer[i] = (char) ('0' + nanos % 10);
+                nanos /= 10;
+            }
+            length = 20 + digits;
+        }
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static void writePair(char[] buffer, int offset, int value) {
+        buffer[offset] = DIGIT_PAIRS[value * 2];
+        buffer[offset + 1] = DIGIT_PAIRS[value * 2 + 1];
+    }
+}
@@ -0,0 +1,45 @@
+package com.restacademy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jackson configuration
+ * Module beans are registered by Spring Boot on the application ObjectMapper (and the CBOR/Smile mappers
+ * built from the same builder)
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces reflective getter calls with generated lambdas
+     */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Registered after the JavaTimeModule, so it takes precedence for {@link LocalDateTime}
+     */
+    @Bean
+    public SimpleModule isoTimestampModule() {
+        SimpleModule module = new SimpleModule("IsoTimestampModule");
+        module.addSerializer(LocalDateTime.class, IsoLocalDateTimeSerializer.INSTANCE);
+        return module;
+    }
+
+    /**
+     * Replaces Spring Boot's JSON converter in place, keeping its position in the converter list
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new CachingJackson2HttpMessageConverter(objectMapper);
+    }
+}
@@ -1,5 +1,10 @@
 package com.restacademy.config;
 
+import com.restacademy.service.jfr.JwtValidationEvent;
+import com.restacademy.service.timing.RequestTimings;
+import com.restacademy.service.timing.RequestTimings.Phase;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,27 +34,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @org.springframework.context.annotation.Lazy
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        final String authorizationHeader = request.getHeader("Authorization");
+        // Token parsing, validation and the user lookup are reported as the "auth" Server-Timing phase
+        long authStart = RequestTimings.start(Phase.AUTH);
+        try {
+            authenticate(request);
+        } finally {
+            RequestTimings.stop(Phase.AUTH, authStart);
+        }
 
-        String username = null;
-        String jwt = null;
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request) {
+        final String authorizationHeader = request.getHeader("Authorization");
 
         // Extract JWT from Authorization header
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            try {
-                username = jwtUtil.extractUsername(jwt);
-            } catch (Exception e) {
-                logger.error("Error extracting username from JWT: " + e.getMessage());
-            }
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return;
+        }
+        JwtValidationEvent event = new JwtValidationEvent();
+        event.begin();
+        String jwt = authorizationHeader.substring(7);
+        String username = null;
+        try {
+            username = jwtUtil.extractUsername(jwt);
+        } catch (Exception e) {
+            event.outcome = e instanceof ExpiredJwtException ? "expired_token" : "invalid_token";
+            meterRegistry.counter("auth.failures", "reason", event.outcome).increment();
+            logger.error("Error extracting username from JWT: " + e.getMessage());
         }
 
         // Validate token and set authentication
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            event.subject = username;
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
             if (jwtUtil.validateToken(jwt, userDetails)) {
@@ -57,9 +81,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                event.outcome = "valid";
+            } else {
+                event.outcome = "token_rejected";
+                meterRegistry.counter("auth.failures", "reason", event.outcome).increment();
             }
         }
-
-        filterChain.doFilter(request, response);
+        event.commit();
     }
 }
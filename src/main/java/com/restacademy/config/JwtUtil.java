@@ -1,6 +1,7 @@
 package com.restacademy.config;
 
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.annotation.Timed;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,6 +30,7 @@ public class JwtUtil {
     /**
      * Extract username from token
      */
+    @Timed(value = "jwt.operations", extraTags = {"operation", "parse"}, histogram = true)
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -69,6 +71,7 @@ public class JwtUtil {
     /**
      * Generate token for user
      */
+    @Timed(value = "jwt.operations", extraTags = {"operation", "generate"}, histogram = true)
     public String generateToken(String username) {
         Map<String, Object> claims = new HashMap<>();
         return createToken(claims, username);
@@ -77,6 +80,7 @@ public class JwtUtil {
     /**
      * Generate token with custom claims
      */
+    @Timed(value = "jwt.operations", extraTags = {"operation", "generate"}, histogram = true)
     public String generateToken(Map<String, Object> claims, String username) {
         return createToken(claims, username);
     }
@@ -97,6 +101,7 @@ public class JwtUtil {
     /**
      * Validate token
      */
+    @Timed(value = "jwt.operations", extraTags = {"operation", "validate"}, histogram = true)
     public Boolean validateToken(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
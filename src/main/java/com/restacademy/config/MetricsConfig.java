@@ -0,0 +1,28 @@
+package com.restacademy.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Predicate;
+
+/**
+ * Metrics configuration
+ * Enables {@code @Timed} on beans ({@code users.service}, {@code jwt.operations}). Spring Boot binds the
+ * Hibernate statistics ({@code hibernate.*}, through hibernate-micrometer) and HikariCP pool metrics
+ * ({@code hikaricp.connections.*}) and serves every meter at {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * The JIT warm-up replays synthetic requests; they are kept out of the timers
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        Predicate<ProceedingJoinPoint> skip = joinPoint -> WarmupRunner.isWarmupCall();
+        return new TimedAspect(meterRegistry, skip);
+    }
+}
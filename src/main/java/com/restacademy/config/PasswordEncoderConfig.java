@@ -8,12 +8,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 /**
  * Password encoder configuration
  * Separated to avoid circular dependencies
+ * BCrypt hashing is reported to Java Flight Recorder as {@code com.restacademy.PasswordHash} events.
  */
 @Configuration
 public class PasswordEncoderConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new FlightRecorderPasswordEncoder(new BCryptPasswordEncoder());
     }
 }
@@ -0,0 +1,174 @@
+package com.restacademy.config;
+
+import com.restacademy.service.ChangeSequencer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Synthetic data seeder for the {@code perf-seed} profile
+ * Fills the users table with {@code perf-seed.users} generated users, replacing the sample data of
+ * {@link DataInitializer}. Rows are generated in parallel chunks and written with batched JDBC inserts,
+ * bypassing JPA; all users share one pre-computed BCrypt hash. Departments follow a Zipf-like distribution
+ * and ages are skewed towards the late twenties, so some filters return far more rows than others.
+ * Not used when a snapshot is restored on startup instead.
+ */
+@Component
+@Profile("perf-seed")
+@ConditionalOnProperty(name = "snapshot.restore-on-startup", havingValue = "false", matchIfMissing = true)
+@EnableConfigurationProperties(PerfSeedProperties.class)
+public class PerfDataSeeder implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PerfDataSeeder.class);
+
+    private static final String INSERT_SQL = "INSERT INTO users (id, first_name, last_name, email, age, department, "
+        + "password, created_at, updated_at, change_seq) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Matches the allocation size of the users_seq generator on User
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final double DEPARTMENT_SKEW = 1.2;
+    private static final double NO_DEPARTMENT_SHARE = 0.03;
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael",
+        "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+        "Chris", "Karen", "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Betty", "Mark", "Sandra", "Steven", "Emily",
+        "Paul", "Ashley", "Andrew", "Kimberly", "Joshua", "Donna", "Kevin", "Michelle", "Brian", "Carol"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+        "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor",
+        "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez",
+        "Lewis", "Robinson", "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores"};
+    // Most frequent first
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Operations", "Marketing", "Support",
+        "Finance", "HR", "Product", "Legal", "Research", "Procurement", "Security", "Design", "Facilities",
+        "Training", "Compliance", "Analytics", "Logistics", "Communications", "Executive"};
+    private static final double[] DEPARTMENT_CUMULATIVE = cumulativeZipf(DEPARTMENTS.length, DEPARTMENT_SKEW);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ChangeSequencer changeSequencer;
+    private final PerfSeedProperties properties;
+
+    @Autowired
+    public PerfDataSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder, ChangeSequencer changeSequencer,
+                          PerfSeedProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.changeSequencer = changeSequencer;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Users table already holds {} rows, not seeding", existing);
+            return;
+        }
+        int users = properties.getUsers();
+        long start = System.nanoTime();
+        String passwordHash = passwordEncoder.encode(properties.getPassword());
+        LocalDateTime now = LocalDateTime.now();
+
+        int batchSize = properties.getBatchSize();
+        int chunks = (users + batchSize - 1) / batchSize;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()));
+        try {
+            List<Future<?>> inserts = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                long firstId = (long) chunk * batchSize + 1;
+                int size = (int) Math.min(batchSize, users - firstId + 1);
+                // One random stream per chunk, so the data does not depend on the thread count
+                SplittableRandom random = new SplittableRandom(properties.getSeed() * 1_000_003L + chunk);
+                inserts.add(executor.submit(() ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, generate(firstId, size, random, passwordHash, now))));
+            }
+            for (Future<?> insert : inserts) {
+                insert.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding users failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Ids and change sequence numbers were assigned here, so move both generators past them
+        jdbcTemplate.execute("ALTER SEQUENCE users_seq RESTART WITH " + (users + ID_ALLOCATION_SIZE + 1));
+        changeSequencer.advanceTo(users);
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Seeded {} users in {} ms ({} rows/s); every user signs in with password '{}', e.g. {}",
+            users, millis, millis == 0 ? users : users * 1000L / millis, properties.getPassword(),
+            jdbcTemplate.queryForObject("SELECT email FROM users WHERE id = 1", String.class));
+    }
+
+    private List<Object[]> generate(long firstId, int size, SplittableRandom random, String passwordHash,
+                                    LocalDateTime now) {
+        List<Object[]> rows = new ArrayList<>(size);
+        for (long id = firstId; id < firstId + size; id++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String email = firstName.toLowerCase(Locale.ROOT) + "." + lastName.toLowerCase(Locale.ROOT) + "." + id
+                + "@example.com";
+            // Created within the last three years, some of them updated since
+            LocalDateTime createdAt = now.minusMinutes(random.nextLong(3L * 365 * 24 * 60));
+            LocalDateTime updatedAt = random.nextInt(4) == 0
+                ? createdAt.plusMinutes(random.nextLong(Math.max(1, Duration.between(createdAt, now).toMinutes())))
+                : createdAt;
+            rows.add(new Object[]{id, firstName, lastName, email, age(random), department(random), passwordHash,
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt), id});
+        }
+        return rows;
+    }
+
+    /**
+     * 18 to 80, peaking in the late twenties with a long tail towards older ages
+     */
+    private static int age(SplittableRandom random) {
+        double years = 22 + random.nextExponential() * 10;
+        return (int) Math.min(80, Math.max(18, years - 2 + random.nextInt(5)));
+    }
+
+    private static String department(SplittableRandom random) {
+        if (random.nextDouble() < NO_DEPARTMENT_SHARE) {
+            return null;
+        }
+        double roll = random.nextDouble();
+        for (int i = 0; i < DEPARTMENT_CUMULATIVE.length; i++) {
+            if (roll < DEPARTMENT_CUMULATIVE[i]) {
+                return DEPARTMENTS[i];
+            }
+        }
+        return DEPARTMENTS[DEPARTMENTS.length - 1];
+    }
+
+    private static double[] cumulativeZipf(int size, double exponent) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+}
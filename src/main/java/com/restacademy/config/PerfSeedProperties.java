@@ -0,0 +1,58 @@
+package com.restacademy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Synthetic data settings for the {@code perf-seed} profile ({@code perf-seed.*})
+ * A fixed seed makes the generated data identical across runs, whatever the number of threads.
+ */
+@ConfigurationProperties(prefix = "perf-seed")
+public class PerfSeedProperties {
+
+    private int users = 1_000_000;
+    private int batchSize = 5_000;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long seed = 42;
+    private String password = "password123";
+
+    // Getters and Setters
+    public int getUsers() {
+        return users;
+    }
+
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
@@ -0,0 +1,45 @@
+package com.restacademy.config;
+
+import com.restacademy.service.querystats.QueryCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement statistics configuration
+ * Wraps the application data source in a {@link QueryCountingDataSource} and registers the
+ * {@link QueryStatsFilter} after load shedding but before Spring Security, so authentication queries count.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryStatsProperties.class)
+@ConditionalOnProperty(name = "query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)
+                    ? new QueryCountingDataSource(dataSource)
+                    : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(QueryStatsProperties properties) {
+        FilterRegistrationBean<QueryStatsFilter> registration = new FilterRegistrationBean<>(
+            new QueryStatsFilter(properties));
+        registration.addUrlPatterns("/api/*");
+        // After the concurrency limit filter, before Spring Security (order -100)
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,94 @@
+package com.restacademy.config;
+
+import com.restacademy.service.querystats.QueryStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Query statistics filter
+ * Counts the SQL statements and database time of each API request, including the user lookup done by JWT
+ * authentication. Requests over their statement budget, or repeating one statement
+ * {@code repeated-statement-threshold} times (a likely N+1), are logged. With {@code expose-headers} the
+ * counts are also sent as {@code X-Query-Count} and {@code X-Query-Time-Ms}, set just before the response is
+ * committed; statements issued after that (large or streamed bodies) only show up in the log.
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+    private final boolean exposeHeaders;
+    private final List<CompiledBudget> budgets = new ArrayList<>();
+    private final CompiledBudget defaultBudget;
+
+    public QueryStatsFilter(QueryStatsProperties properties) {
+        this.exposeHeaders = properties.isExposeHeaders();
+        for (QueryStatsProperties.Budget budget : properties.getBudgets()) {
+            budgets.add(new CompiledBudget(new AntPathRequestMatcher(budget.getPattern(), budget.getMethod()),
+                budget.getMaxStatements(), budget.getRepeatedStatementThreshold() != null
+                    ? budget.getRepeatedStatementThreshold() : properties.getRepeatedStatementThreshold()));
+        }
+        this.defaultBudget = new CompiledBudget(null, properties.getDefaultMaxStatements(),
+            properties.getRepeatedStatementThreshold());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        QueryStats stats = QueryStats.start();
+        BeforeCommitResponseWrapper wrapped = exposeHeaders
+            ? new BeforeCommitResponseWrapper(response, () -> writeHeaders(response, stats))
+            : null;
+        try {
+            filterChain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            stats.stop();
+            if (wrapped != null) {
+                wrapped.beforeCommit();
+            }
+            check(request, stats);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return true;
+    }
+
+    private void check(HttpServletRequest request, QueryStats stats) {
+        CompiledBudget budget = defaultBudget;
+        for (CompiledBudget candidate : budgets) {
+            if (candidate.matcher().matches(request)) {
+                budget = candidate;
+                break;
+            }
+        }
+        if (stats.getStatements() > budget.maxStatements()) {
+            log.warn("{} {} exceeded its query budget of {}: {}",
+                request.getMethod(), request.getRequestURI(), budget.maxStatements(), stats);
+        }
+        if (stats.getMostRepeatedCount() >= budget.repeatedStatementThreshold()) {
+            log.warn("Possible N+1 in {} {}: statement executed {} times: {}",
+                request.getMethod(), request.getRequestURI(), stats.getMostRepeatedCount(), stats.getMostRepeatedSql());
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, QueryStats stats) {
+        response.setHeader("X-Query-Count", Integer.toString(stats.getStatements()));
+        response.setHeader("X-Query-Time-Ms", String.format(Locale.ROOT, "%.3f", stats.getNanos() / 1e6));
+    }
+
+    private record CompiledBudget(AntPathRequestMatcher matcher, int maxStatements, int repeatedStatementThreshold) {
+    }
+}
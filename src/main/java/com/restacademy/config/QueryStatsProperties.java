@@ -0,0 +1,107 @@
+package com.restacademy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-request SQL statement statistics ({@code query-stats.*})
+ * Each API request is matched against {@code budgets} in order, falling back to {@code default-max-statements};
+ * requests over their budget are logged.
+ */
+@ConfigurationProperties(prefix = "query-stats")
+public class QueryStatsProperties {
+
+    private boolean enabled = true;
+    private boolean exposeHeaders = false;
+    private int defaultMaxStatements = 10;
+    private int repeatedStatementThreshold = 5;
+    private List<Budget> budgets = new ArrayList<>();
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isExposeHeaders() {
+        return exposeHeaders;
+    }
+
+    public void setExposeHeaders(boolean exposeHeaders) {
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    public int getDefaultMaxStatements() {
+        return defaultMaxStatements;
+    }
+
+    public void setDefaultMaxStatements(int defaultMaxStatements) {
+        this.defaultMaxStatements = defaultMaxStatements;
+    }
+
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    public List<Budget> getBudgets() {
+        return budgets;
+    }
+
+    public void setBudgets(List<Budget> budgets) {
+        this.budgets = budgets;
+    }
+
+    /**
+     * Statement budget for requests matching an Ant-style path pattern, optionally restricted to one HTTP method;
+     * {@code repeated-statement-threshold} overrides the global one for endpoints that legitimately repeat a statement
+     */
+    public static class Budget {
+
+        private String pattern;
+        private String method;
+        private int maxStatements;
+        private Integer repeatedStatementThreshold;
+
+        // Getters and Setters
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public int getMaxStatements() {
+            return maxStatements;
+        }
+
+        public void setMaxStatements(int maxStatements) {
+            this.maxStatements = maxStatements;
+        }
+
+        public Integer getRepeatedStatementThreshold() {
+            return repeatedStatementThreshold;
+        }
+
+        public void setRepeatedStatementThreshold(Integer repeatedStatementThreshold) {
+            this.repeatedStatementThreshold = repeatedStatementThreshold;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.restacademy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.exception.GlobalExceptionHandler;
+import com.restacademy.exception.GlobalExceptionHandler.Problem;
+import com.restacademy.service.ratelimit.RateLimiter;
+import com.restacademy.service.ratelimit.TokenBucket;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limiting Filter
+ * Runs after {@link JwtAuthenticationFilter} and throttles API requests per client: by JWT subject when the
+ * request is authenticated, otherwise (e.g. {@code /api/v1/auth/**}) by remote address. Responses carry the
+ * IETF {@code RateLimit-*} headers; throttled requests get 429 with {@code Retry-After}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathRequestMatcher API = new AntPathRequestMatcher("/api/**");
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<CompiledRoute> routes = new ArrayList<>();
+    private final CompiledRoute defaultRoute;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            AntPathRequestMatcher matcher = new AntPathRequestMatcher(route.getPattern(), route.getMethod());
+            routes.add(CompiledRoute.of(route.getMethod() + " " + route.getPattern(), matcher, route));
+        }
+        this.defaultRoute = CompiledRoute.of("default", API, properties.getDefaultLimit());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !API.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        CompiledRoute route = defaultRoute;
+        for (CompiledRoute candidate : routes) {
+            if (candidate.matcher().matches(request)) {
+                route = candidate;
+                break;
+            }
+        }
+
+        TokenBucket.Decision decision = rateLimiter.tryAcquire(route.id() + '|' + clientKey(request), route.limit());
+        response.setHeader("RateLimit-Limit", Long.toString(decision.limit()));
+        response.setHeader("RateLimit-Remaining", Long.toString(decision.remaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(seconds(decision.resetNanos())));
+        response.setHeader("RateLimit-Policy", route.policy());
+
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = Math.max(1, seconds(decision.retryAfterNanos()));
+        response.setHeader("Retry-After", Long.toString(retryAfter));
+        response.setStatus(Problem.RATE_LIMITED.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), GlobalExceptionHandler.problemDetail(
+            Problem.RATE_LIMITED, "Rate limit exceeded, retry in " + retryAfter + " s", request));
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "sub:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long seconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private record CompiledRoute(String id, AntPathRequestMatcher matcher, RateLimitProperties.Limit limit,
+                                 String policy) {
+
+        static CompiledRoute of(String id, AntPathRequestMatcher matcher, RateLimitProperties.Limit limit) {
+            return new CompiledRoute(id, matcher, limit, limit.getCapacity() + ";w=" + limit.getPeriod().toSeconds());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.restacademy.config;
+
+import com.restacademy.service.timing.RequestTimings;
+import com.restacademy.service.timing.RequestTimings.Phase;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Attributes time spent in the service layer and in Spring Data repositories to the current request's
+ * {@link RequestTimings}. Calls outside a timed request (jobs, startup) only pay for a thread-local lookup.
+ */
+@Aspect
+public class ServerTimingAspect {
+
+    @Around("execution(public * com.restacademy.service..*Service.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, Phase.SERVICE);
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, Phase.REPOSITORY);
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint, Phase phase) throws Throwable {
+        long start = RequestTimings.start(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimings.stop(phase, start);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.restacademy.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Server-Timing configuration
+ * Registers the {@link ServerTimingAspect} and the {@link ServerTimingFilter} inside the query statistics filter,
+ * so the {@code db} metric can be read from the request's statistics, and before Spring Security, so
+ * authentication is timed.
+ */
+@Configuration
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    @Bean
+    public ServerTimingAspect serverTimingAspect() {
+        return new ServerTimingAspect();
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${server-timing.header-enabled:true}") boolean headerEnabled,
+            @Value("${server-timing.log-enabled:false}") boolean logEnabled,
+            @Value("${server-timing.log-threshold:0ms}") Duration logThreshold) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+            new ServerTimingFilter(headerEnabled, logEnabled, logThreshold.toNanos()));
+        registration.addUrlPatterns("/api/*");
+        // After the query statistics filter, before Spring Security (order -100)
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+        return registration;
+    }
+}
@@ -0,0 +1,143 @@
+package com.restacademy.config;
+
+import com.restacademy.service.jfr.ResponseSerializationEvent;
+import com.restacademy.service.querystats.QueryStats;
+import com.restacademy.service.timing.RequestTimings;
+import com.restacademy.service.timing.RequestTimings.Phase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Server-Timing filter
+ * Reports where each API request's time went as a W3C {@code Server-Timing} header:
+ * <pre>
+ * Server-Timing: auth;dur=1.204, service;dur=3.410, repo;dur=2.011, db;dur=0.912;desc="3 statements",
+ *                ser;dur=0.507, total;dur=8.126
+ * </pre>
+ * {@code auth} is the JWT filter including its user lookup, {@code service} and {@code repo} the outermost
+ * service and repository calls ({@code service} contains {@code repo}), {@code db} the JDBC execution time
+ * from the query statistics, {@code ser} the response body serialization. The header is set just before the
+ * response commits, so serialization is complete for bodies that fit the response buffer. The optional log
+ * line is written after the response and is always complete. The serialization phase is also reported to
+ * Java Flight Recorder as a {@code com.restacademy.ResponseSerialization} event.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final boolean headerEnabled;
+    private final boolean logEnabled;
+    private final long logThresholdNanos;
+
+    public ServerTimingFilter(boolean headerEnabled, boolean logEnabled, long logThresholdNanos) {
+        this.headerEnabled = headerEnabled;
+        this.logEnabled = logEnabled;
+        this.logThresholdNanos = logThresholdNanos;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestTimings timings = RequestTimings.begin();
+        // Opened by the QueryStatsFilter around this one, if query statistics are enabled
+        QueryStats queries = QueryStats.current();
+        ResponseSerializationEvent serialization = new ResponseSerializationEvent();
+        BeforeCommitResponseWrapper wrapped = new BeforeCommitResponseWrapper(response, () -> {
+            if (headerEnabled) {
+                response.setHeader("Server-Timing", header(timings, queries));
+            }
+        }) {
+            @Override
+            protected void onBodyStart() {
+                timings.startSerialization();
+                serialization.begin();
+            }
+        };
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            wrapped.beforeCommit();
+            RequestTimings.end();
+            if (timings.isSerializationStarted() && serialization.shouldCommit()) {
+                serialization.method = request.getMethod();
+                serialization.uri = request.getRequestURI();
+                serialization.status = response.getStatus();
+                serialization.contentType = response.getContentType();
+                serialization.commit();
+            }
+            long total = timings.total();
+            if (logEnabled && total >= logThresholdNanos && log.isInfoEnabled()) {
+                log.info(logLine(request, response, timings, queries, total));
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return true;
+    }
+
+    private static String header(RequestTimings timings, QueryStats queries) {
+        StringBuilder out = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            if (phase == Phase.SERIALIZATION && queries != null) {
+                appendMetric(out, "db", queries.getNanos());
+                int statements = queries.getStatements();
+                out.append(";desc=\"").append(statements).append(statements == 1 ? " statement\"" : " statements\"");
+            }
+            appendMetric(out, phase.getMetricName(), timings.elapsed(phase));
+        }
+        appendMetric(out, "total", timings.total());
+        return out.toString();
+    }
+
+    private static void appendMetric(StringBuilder out, String name, long nanos) {
+        if (!out.isEmpty()) {
+            out.append(", ");
+        }
+        out.append(name).append(";dur=");
+        appendMillis(out, nanos);
+    }
+
+    private static String logLine(HttpServletRequest request, HttpServletResponse response, RequestTimings timings,
+                                  QueryStats queries, long total) {
+        StringBuilder out = new StringBuilder(192);
+        out.append("method=").append(request.getMethod())
+            .append(" uri=").append(request.getRequestURI())
+            .append(" status=").append(response.getStatus())
+            .append(" total_ms=");
+        appendMillis(out, total);
+        for (Phase phase : Phase.values()) {
+            out.append(' ').append(phase.getMetricName()).append("_ms=");
+            appendMillis(out, timings.elapsed(phase));
+        }
+        if (queries != null) {
+            out.append(" db_ms=");
+            appendMillis(out, queries.getNanos());
+            out.append(" statements=").append(queries.getStatements());
+        }
+        return out.toString();
+    }
+
+    // Milliseconds with microsecond precision, without going through String.format
+    private static void appendMillis(StringBuilder out, long nanos) {
+        long micros = Math.max(0, nanos) / 1000;
+        long fraction = micros % 1000;
+        out.append(micros / 1000).append('.');
+        if (fraction < 100) {
+            out.append('0');
+        }
+        if (fraction < 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+}
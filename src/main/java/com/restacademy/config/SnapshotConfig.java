@@ -0,0 +1,27 @@
+package com.restacademy.config;
+
+import com.restacademy.service.snapshot.UserSnapshotService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Users snapshot configuration
+ * Registers the {@code snapshot} actuator endpoint and the background restore, which doubles as the
+ * {@code snapshot} health indicator of the readiness group (always present, UP when restore is disabled).
+ */
+@Configuration
+@EnableConfigurationProperties(SnapshotProperties.class)
+public class SnapshotConfig {
+
+    @Bean
+    public SnapshotEndpoint snapshotEndpoint(UserSnapshotService snapshotService, SnapshotProperties properties) {
+        return new SnapshotEndpoint(snapshotService, properties);
+    }
+
+    @Bean
+    public SnapshotRestorer snapshotHealthIndicator(UserSnapshotService snapshotService,
+                                                    SnapshotProperties properties) {
+        return new SnapshotRestorer(snapshotService, properties);
+    }
+}
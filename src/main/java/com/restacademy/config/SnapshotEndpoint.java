@@ -0,0 +1,69 @@
+package com.restacademy.config;
+
+import com.restacademy.service.snapshot.UserSnapshotService;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Users snapshot endpoint ({@code /actuator/snapshot})
+ * {@code GET} describes the snapshot file, {@code POST} dumps the users table into it.
+ */
+@WebEndpoint(id = "snapshot")
+public class SnapshotEndpoint {
+
+    private final UserSnapshotService snapshotService;
+    private final SnapshotProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SnapshotEndpoint(UserSnapshotService snapshotService, SnapshotProperties properties) {
+        this.snapshotService = snapshotService;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return describe(properties.getFile());
+    }
+
+    @WriteOperation
+    public Map<String, Object> dump() {
+        lock.lock();
+        try {
+            long start = System.nanoTime();
+            long users = snapshotService.dump(properties.getFile());
+            Map<String, Object> result = describe(properties.getFile());
+            result.put("users", users);
+            result.put("dumpMillis", (System.nanoTime() - start) / 1_000_000);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Writing snapshot " + properties.getFile() + " failed", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Map<String, Object> describe(Path file) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("file", file.toAbsolutePath().toString());
+        try {
+            boolean exists = Files.isRegularFile(file);
+            status.put("exists", exists);
+            if (exists) {
+                status.put("bytes", Files.size(file));
+                status.put("lastModified", Files.getLastModifiedTime(file).toInstant().toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,35 @@
+package com.restacademy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Users snapshot settings ({@code snapshot.*})
+ * With {@code restore-on-startup} the sample data is not loaded; the snapshot file is restored in the
+ * background instead and the application reports itself not ready until it is done.
+ */
+@ConfigurationProperties(prefix = "snapshot")
+public class SnapshotProperties {
+
+    private Path file = Paths.get(System.getProperty("java.io.tmpdir"), "rest-academy", "users-snapshot.zip");
+    private boolean restoreOnStartup = false;
+
+    // Getters and Setters
+    public Path getFile() {
+        return file;
+    }
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+
+    public boolean isRestoreOnStartup() {
+        return restoreOnStartup;
+    }
+
+    public void setRestoreOnStartup(boolean restoreOnStartup) {
+        this.restoreOnStartup = restoreOnStartup;
+    }
+}
@@ -0,0 +1,84 @@
+package com.restacademy.config;
+
+import com.restacademy.service.snapshot.UserSnapshotService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Restores the users snapshot on a background thread once the context has started, so the server begins
+ * listening (and answering liveness probes) while a large snapshot is still loading. As the {@code snapshot}
+ * health indicator, part of the readiness group, it keeps the application out of service until then.
+ */
+public class SnapshotRestorer implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotRestorer.class);
+
+    enum State { DISABLED, PENDING, RESTORING, RESTORED, MISSING, FAILED }
+
+    private final UserSnapshotService snapshotService;
+    private final SnapshotProperties properties;
+    private volatile State state;
+    private volatile long rows;
+    private volatile long millis;
+    private volatile Exception failure;
+
+    public SnapshotRestorer(UserSnapshotService snapshotService, SnapshotProperties properties) {
+        this.snapshotService = snapshotService;
+        this.properties = properties;
+        this.state = properties.isRestoreOnStartup() ? State.PENDING : State.DISABLED;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void restoreInBackground() {
+        if (state != State.PENDING) {
+            return;
+        }
+        Path file = properties.getFile();
+        if (!Files.isRegularFile(file)) {
+            log.warn("Snapshot restore enabled but {} does not exist, starting with an empty users table", file);
+            state = State.MISSING;
+            return;
+        }
+        state = State.RESTORING;
+        Thread thread = new Thread(() -> restore(file), "snapshot-restore");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void restore(Path file) {
+        long start = System.nanoTime();
+        try {
+            rows = snapshotService.restore(file);
+            millis = (System.nanoTime() - start) / 1_000_000;
+            state = State.RESTORED;
+            log.info("Restored {} users from {} in {} ms", rows, file, millis);
+        } catch (RuntimeException e) {
+            failure = e;
+            state = State.FAILED;
+            log.error("Restoring users from {} failed", file, e);
+        }
+    }
+
+    @Override
+    public Health health() {
+        State current = state;
+        Health.Builder health = switch (current) {
+            case PENDING, RESTORING -> Health.outOfService();
+            case FAILED -> Health.down(failure);
+            default -> Health.up();
+        };
+        health.withDetail("state", current.name().toLowerCase(Locale.ROOT)).withDetail("file", properties.getFile().toString());
+        if (current == State.RESTORED) {
+            health.withDetail("users", rows).withDetail("restoreMillis", millis);
+        }
+        return health.build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.restacademy.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup training run
+ * With {@code startup.training-run=true} the application shuts down as soon as it is ready, so a JVM started
+ * with {@code -XX:ArchiveClassesAtExit} writes every class loaded during startup to an AppCDS archive (see the
+ * {@code startup} Maven profile). The property is checked at runtime rather than as a condition because AOT
+ * processing fixes conditions at build time.
+ */
+@Component
+public class StartupTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTrainingRun.class);
+
+    private final boolean trainingRun;
+
+    public StartupTrainingRun(@Value("${startup.training-run:false}") boolean trainingRun) {
+        this.trainingRun = trainingRun;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (trainingRun) {
+            log.info("Training run complete after {} ms, exiting", event.getTimeTaken().toMillis());
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
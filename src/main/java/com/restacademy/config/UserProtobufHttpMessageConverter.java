@@ -0,0 +1,265 @@
+package com.restacademy.config;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.dto.UserLookupResponse;
+import com.restacademy.dto.UserPageResponse;
+import com.restacademy.dto.UserResponse;
+import com.restacademy.dto.UserUpdateRequest;
+import com.restacademy.exception.GlobalExceptionHandler;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protobuf encoding of the user API payloads ({@code application/x-protobuf}).
+ *
+ * Messages follow {@code src/main/proto/users.proto} and are encoded directly from the DTOs with the
+ * protobuf runtime's coded streams, so no generated classes or intermediate copies are needed. Writes
+ * {@link UserResponse}, lists of it, {@link UserPageResponse}, {@link UserLookupResponse} and problem
+ * details (as {@code Error}); reads {@link UserCreateRequest} and {@link UserUpdateRequest}.
+ */
+public class UserProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType PROTOBUF = MediaType.parseMediaType(PROTOBUF_VALUE);
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    public UserProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isReadable(clazz) || isWritable(clazz, clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type instanceof Class<?> clazz && isReadable(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return isReadable(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isWritable(type != null ? type : clazz, clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return isWritable(clazz, clazz) && canWrite(mediaType);
+    }
+
+    private static boolean isReadable(Class<?> clazz) {
+        return clazz == UserCreateRequest.class || clazz == UserUpdateRequest.class;
+    }
+
+    private static boolean isWritable(Type type, Class<?> clazz) {
+        if (clazz == UserResponse.class || clazz == UserLookupResponse.class || clazz == ProblemDetail.class) {
+            return true;
+        }
+        // Lists and pages only when their elements are full UserResponses (not sparse rows)
+        return (Collection.class.isAssignableFrom(clazz) || clazz == UserPageResponse.class)
+            && type instanceof ParameterizedType parameterized
+            && parameterized.getActualTypeArguments()[0] == UserResponse.class;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return readInternal((Class<?>) type, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        CodedInputStream input = CodedInputStream.newInstance(inputMessage.getBody(), BUFFER_SIZE);
+        String firstName = null;
+        String lastName = null;
+        String email = null;
+        Integer age = null;
+        String department = null;
+        try {
+            int tag;
+            while ((tag = input.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1 -> firstName = input.readString();
+                    case 2 -> lastName = input.readString();
+                    case 3 -> email = input.readString();
+                    case 4 -> age = input.readInt32();
+                    case 5 -> department = input.readString();
+                    default -> input.skipField(tag);
+                }
+            }
+        } catch (IOException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf message: " + e.getMessage(), e, inputMessage);
+        }
+        if (clazz == UserUpdateRequest.class) {
+            return new UserUpdateRequest(firstName, lastName, email, age, department);
+        }
+        return new UserCreateRequest(firstName, lastName, email, age, department);
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody(), BUFFER_SIZE);
+        if (body instanceof UserResponse user) {
+            writeUserFields(output, user);
+        } else if (body instanceof Collection<?> users) {
+            writeUsers(output, 1, users);
+        } else if (body instanceof UserPageResponse<?> page) {
+            writeUsers(output, 1, page.users());
+            output.writeInt32(2, page.currentPage());
+            output.writeInt64(3, page.totalItems());
+            output.writeInt32(4, page.totalPages());
+            output.writeInt32(5, page.pageSize());
+            output.writeBool(6, page.hasNext());
+            output.writeBool(7, page.hasPrevious());
+        } else if (body instanceof UserLookupResponse lookup) {
+            writeUsers(output, 1, lookup.getUsers());
+            if (lookup.getMissingIds() != null && !lookup.getMissingIds().isEmpty()) {
+                writePackedInt64(output, 2, lookup.getMissingIds());
+            }
+        } else if (body instanceof ProblemDetail problem) {
+            writeError(output, problem);
+        }
+        output.flush();
+    }
+
+    private static void writeUsers(CodedOutputStream output, int field, Collection<?> users) throws IOException {
+        if (users == null) {
+            return;
+        }
+        for (Object user : users) {
+            output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(userSize((UserResponse) user));
+            writeUserFields(output, (UserResponse) user);
+        }
+    }
+
+    private static int userSize(UserResponse user) {
+        int size = 0;
+        if (user.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(1, user.getId());
+        }
+        size += stringSize(2, user.getFirstName());
+        size += stringSize(3, user.getLastName());
+        size += stringSize(4, user.getEmail());
+        if (user.getAge() != null) {
+            size += CodedOutputStream.computeInt32Size(5, user.getAge());
+        }
+        size += stringSize(6, user.getDepartment());
+        size += timestampFieldSize(7, user.getCreatedAt());
+        size += timestampFieldSize(8, user.getUpdatedAt());
+        return size;
+    }
+
+    private static void writeUserFields(CodedOutputStream output, UserResponse user) throws IOException {
+        if (user.getId() != null) {
+            output.writeInt64(1, user.getId());
+        }
+        writeString(output, 2, user.getFirstName());
+        writeString(output, 3, user.getLastName());
+        writeString(output, 4, user.getEmail());
+        if (user.getAge() != null) {
+            output.writeInt32(5, user.getAge());
+        }
+        writeString(output, 6, user.getDepartment());
+        writeTimestamp(output, 7, user.getCreatedAt());
+        writeTimestamp(output, 8, user.getUpdatedAt());
+    }
+
+    // Problem details carry no timestamp; title, detail and instance map to error, message and path
+    private static void writeError(CodedOutputStream output, ProblemDetail problem) throws IOException {
+        output.writeInt32(2, problem.getStatus());
+        writeString(output, 3, problem.getTitle());
+        writeString(output, 4, problem.getDetail());
+        writeString(output, 5, problem.getInstance() != null ? problem.getInstance().toString() : null);
+        Map<String, Object> properties = problem.getProperties();
+        Object validationErrors = properties != null ? properties.get(GlobalExceptionHandler.VALIDATION_ERRORS) : null;
+        if (validationErrors instanceof Map<?, ?> errors) {
+            for (Map.Entry<?, ?> entry : errors.entrySet()) {
+                String field = String.valueOf(entry.getKey());
+                String message = entry.getValue() != null ? entry.getValue().toString() : null;
+                output.writeTag(6, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(stringSize(1, field) + stringSize(2, message));
+                writeString(output, 1, field);
+                writeString(output, 2, message);
+            }
+        }
+    }
+
+    private static void writePackedInt64(CodedOutputStream output, int field, List<Long> values) throws IOException {
+        int size = 0;
+        for (Long value : values) {
+            size += CodedOutputStream.computeInt64SizeNoTag(value);
+        }
+        output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(size);
+        for (Long value : values) {
+            output.writeInt64NoTag(value);
+        }
+    }
+
+    private static int stringSize(int field, String value) {
+        return value != null ? CodedOutputStream.computeStringSize(field, value) : 0;
+    }
+
+    private static void writeString(CodedOutputStream output, int field, String value) throws IOException {
+        if (value != null) {
+            output.writeString(field, value);
+        }
+    }
+
+    // google.protobuf.Timestamp: seconds = 1, nanos = 2
+    private static int timestampSize(LocalDateTime value) {
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        int nanos = value.getNano();
+        return (seconds != 0 ? CodedOutputStream.computeInt64Size(1, seconds) : 0)
+            + (nanos != 0 ? CodedOutputStream.computeInt32Size(2, nanos) : 0);
+    }
+
+    private static int timestampFieldSize(int field, LocalDateTime value) {
+        if (value == null) {
+            return 0;
+        }
+        int size = timestampSize(value);
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    private static void writeTimestamp(CodedOutputStream output, int field, LocalDateTime value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        output.writeUInt32NoTag(timestampSize(value));
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        if (seconds != 0) {
+            output.writeInt64(1, seconds);
+        }
+        if (value.getNano() != 0) {
+            output.writeInt32(2, value.getNano());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.restacademy.config;
+
+import com.restacademy.controller.UserController;
+import com.restacademy.service.UserService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.authentication.AuthenticationManager;
+
+/**
+ * JIT warm-up configuration
+ * Registers the warm-up runner, which doubles as the {@code warmup} health indicator of the readiness group
+ * (always present, UP when the warm-up is disabled).
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+
+    @Bean
+    public WarmupRunner warmupHealthIndicator(AuthenticationManager authenticationManager, JwtUtil jwtUtil,
+                                              UserService userService, UserController userController,
+                                              MappingJackson2HttpMessageConverter jsonConverter,
+                                              SnapshotRestorer snapshotRestorer, WarmupProperties properties) {
+        return new WarmupRunner(authenticationManager, jwtUtil, userService, userController, jsonConverter,
+            snapshotRestorer, properties);
+    }
+}
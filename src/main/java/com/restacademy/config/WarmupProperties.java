@@ -0,0 +1,127 @@
+package com.restacademy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * JIT warm-up settings ({@code warmup.*})
+ * The warm-up replays the request mix in rounds of {@code iterations-per-round} until the mean latency of a
+ * round stays within {@code tolerance} of the previous one for {@code stable-rounds} rounds, or until
+ * {@code max-rounds} / {@code max-duration} is reached. Logins hash a password, so they run only
+ * {@code logins-per-round} times per round. Unpaged list endpoints are left out of the mix when the users
+ * table holds more than {@code max-list-users} rows.
+ */
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+    private int iterationsPerRound = 100;
+    private int loginsPerRound = 2;
+    private int minRounds = 3;
+    private int maxRounds = 30;
+    private Duration maxDuration = Duration.ofSeconds(30);
+    private double tolerance = 0.1;
+    private int stableRounds = 3;
+    private int pageSize = 20;
+    private long maxListUsers = 10_000;
+    private String loginEmail = "john.doe@example.com";
+    private String loginPassword = "password123";
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getIterationsPerRound() {
+        return iterationsPerRound;
+    }
+
+    public void setIterationsPerRound(int iterationsPerRound) {
+        this.iterationsPerRound = iterationsPerRound;
+    }
+
+    public int getLoginsPerRound() {
+        return loginsPerRound;
+    }
+
+    public void setLoginsPerRound(int loginsPerRound) {
+        this.loginsPerRound = loginsPerRound;
+    }
+
+    public int getMinRounds() {
+        return minRounds;
+    }
+
+    public void setMinRounds(int minRounds) {
+        this.minRounds = minRounds;
+    }
+
+    public int getMaxRounds() {
+        return maxRounds;
+    }
+
+    public void setMaxRounds(int maxRounds) {
+        this.maxRounds = maxRounds;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public int getStableRounds() {
+        return stableRounds;
+    }
+
+    public void setStableRounds(int stableRounds) {
+        this.stableRounds = stableRounds;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public long getMaxListUsers() {
+        return maxListUsers;
+    }
+
+    public void setMaxListUsers(long maxListUsers) {
+        this.maxListUsers = maxListUsers;
+    }
+
+    public String getLoginEmail() {
+        return loginEmail;
+    }
+
+    public void setLoginEmail(String loginEmail) {
+        this.loginEmail = loginEmail;
+    }
+
+    public String getLoginPassword() {
+        return loginPassword;
+    }
+
+    public void setLoginPassword(String loginPassword) {
+        this.loginPassword = loginPassword;
+    }
+}
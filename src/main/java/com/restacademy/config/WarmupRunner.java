@@ -0,0 +1,384 @@
+package com.restacademy.config;
+
+import com.restacademy.controller.UserController;
+import com.restacademy.dto.DepartmentCountResponse;
+import com.restacademy.dto.UserChangesResponse;
+import com.restacademy.dto.UserLookupResponse;
+import com.restacademy.dto.UserPageResponse;
+import com.restacademy.dto.UserResponse;
+import com.restacademy.service.UserService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Warms up the request path in-process once the application is ready, before it reports itself ready.
+ *
+ * A background thread replays a synthetic mix of what clients do: password logins, JWT validation with the
+ * user lookup of {@link JwtAuthenticationFilter}, every read endpoint of {@link UserController} (called on the
+ * bean, so service, repository, Hibernate query plans and the connection pool all run) and the JSON
+ * serialization of each response through the application's message converter. The mix runs in rounds until
+ * the mean latency of a round converges. As the {@code warmup} health indicator, part of the readiness group,
+ * it keeps the application out of service meanwhile; a failed warm-up is reported but does not block traffic.
+ * The warm-up starts after a snapshot restore has finished. Its calls are left out of the {@code @Timed} metrics
+ * (see {@link #isWarmupCall()}), and it stops between requests when the context closes.
+ */
+public class WarmupRunner implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final String SPARSE_FIELDS = "id,email,firstName,lastName";
+    private static final String[] SORT_FIELDS = {"id", "lastName", "age", "createdAt"};
+    private static final long SNAPSHOT_POLL_MILLIS = 100;
+    private static final long SHUTDOWN_WAIT_MILLIS = 5_000;
+    private static final ThreadLocal<Boolean> WARMUP_CALL = ThreadLocal.withInitial(() -> false);
+
+    enum State { DISABLED, PENDING, WAITING, RUNNING, COMPLETED, SKIPPED, FAILED }
+
+    private final AuthenticationManager authenticationManager;
+    private final JwtUtil jwtUtil;
+    private final UserService userService;
+    private final UserController userController;
+    private final MappingJackson2HttpMessageConverter jsonConverter;
+    private final SnapshotRestorer snapshotRestorer;
+    private final WarmupProperties properties;
+    private final BufferOutputMessage buffer = new BufferOutputMessage();
+
+    private volatile Thread thread;
+    private volatile State state;
+    private volatile List<RoundStats> rounds = List.of();
+    private volatile Map<String, Double> firstScenarioMicros = Map.of();
+    private volatile Map<String, Double> lastScenarioMicros = Map.of();
+    private volatile boolean converged;
+    private volatile long errors;
+    private volatile long millis;
+    private volatile Exception failure;
+
+    public WarmupRunner(AuthenticationManager authenticationManager, JwtUtil jwtUtil, UserService userService,
+                        UserController userController, MappingJackson2HttpMessageConverter jsonConverter,
+                        SnapshotRestorer snapshotRestorer, WarmupProperties properties) {
+        this.authenticationManager = authenticationManager;
+        this.jwtUtil = jwtUtil;
+        this.userService = userService;
+        this.userController = userController;
+        this.jsonConverter = jsonConverter;
+        this.snapshotRestorer = snapshotRestorer;
+        this.properties = properties;
+        this.state = properties.isEnabled() ? State.PENDING : State.DISABLED;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpInBackground() {
+        if (state != State.PENDING) {
+            return;
+        }
+        state = State.WAITING;
+        thread = new Thread(this::warmUp, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Whether the current call is made by the warm-up rather than by a client
+     */
+    public static boolean isWarmupCall() {
+        return WARMUP_CALL.get();
+    }
+
+    /**
+     * Stop the warm-up before the beans it calls (and the data source) are destroyed
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        Thread running = thread;
+        if (running != null) {
+            running.interrupt();
+            running.join(SHUTDOWN_WAIT_MILLIS);
+        }
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        WARMUP_CALL.set(true);
+        try {
+            while (snapshotRestorer.health().getStatus().equals(Status.OUT_OF_SERVICE)) {
+                Thread.sleep(SNAPSHOT_POLL_MILLIS);
+            }
+            state = State.RUNNING;
+            start = System.nanoTime();
+            List<Scenario> scenarios = scenarios();
+            if (scenarios.isEmpty()) {
+                log.info("No users to warm up with, skipping warm-up");
+                state = State.SKIPPED;
+                return;
+            }
+            runRounds(scenarios, start + properties.getMaxDuration().toNanos());
+            millis = (System.nanoTime() - start) / 1_000_000;
+            state = State.COMPLETED;
+            log.info("Warm-up finished after {} rounds in {} ms ({}), mean request mix latency per round: {} us",
+                rounds.size(), millis, converged ? "converged" : "not converged",
+                rounds.stream().map(stats -> format(stats.meanMicros())).collect(Collectors.joining(" -> ")));
+        } catch (InterruptedException e) {
+            log.info("Warm-up interrupted after {} rounds", rounds.size());
+            state = State.SKIPPED;
+        } catch (RuntimeException e) {
+            millis = (System.nanoTime() - start) / 1_000_000;
+            failure = e;
+            state = State.FAILED;
+            log.error("Warm-up failed, reporting ready without it", e);
+        } finally {
+            WARMUP_CALL.remove();
+        }
+    }
+
+    private void runRounds(List<Scenario> scenarios, long deadline) throws InterruptedException {
+        int iterations = properties.getIterationsPerRound();
+        boolean logins = properties.getLoginsPerRound() > 0;
+        int stable = 0;
+        List<RoundStats> completed = new ArrayList<>();
+        for (int number = 1; number <= properties.getMaxRounds() && System.nanoTime() < deadline; number++) {
+            long[] mixNanos = new long[iterations];
+            long[] scenarioNanos = new long[scenarios.size() + 1];
+            for (int i = 0; i < iterations; i++) {
+                // Checked between request mixes; a call already running is not cut short
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                int iteration = (number - 1) * iterations + i;
+                for (int s = 0; s < scenarios.size(); s++) {
+                    long elapsed = run(scenarios.get(s), iteration);
+                    scenarioNanos[s] += elapsed;
+                    mixNanos[i] += elapsed;
+                }
+            }
+            int loginCount = 0;
+            for (; logins && loginCount < properties.getLoginsPerRound(); loginCount++) {
+                long loginStart = System.nanoTime();
+                logins = login();
+                scenarioNanos[scenarios.size()] += System.nanoTime() - loginStart;
+            }
+
+            Arrays.sort(mixNanos);
+            double mean = Arrays.stream(mixNanos).average().orElse(0) / 1_000;
+            RoundStats stats = new RoundStats(number, mean, mixNanos[(int) Math.ceil(iterations * 0.99) - 1] / 1_000.0);
+            Map<String, Double> scenarioMicros = new LinkedHashMap<>();
+            for (int s = 0; s < scenarios.size(); s++) {
+                scenarioMicros.put(scenarios.get(s).name(), round(scenarioNanos[s] / 1_000.0 / iterations));
+            }
+            if (loginCount > 0) {
+                scenarioMicros.put("login", round(scenarioNanos[scenarios.size()] / 1_000.0 / loginCount));
+            }
+            log.debug("Warm-up round {}: mean {} us, p99 {} us per request mix", number, format(stats.meanMicros()),
+                format(stats.p99Micros()));
+
+            if (!completed.isEmpty()) {
+                double previous = completed.get(completed.size() - 1).meanMicros();
+                stable = Math.abs(mean - previous) <= previous * properties.getTolerance() ? stable + 1 : 0;
+            }
+            completed.add(stats);
+            rounds = List.copyOf(completed);
+            if (number == 1) {
+                firstScenarioMicros = Collections.unmodifiableMap(scenarioMicros);
+            }
+            lastScenarioMicros = Collections.unmodifiableMap(scenarioMicros);
+            if (number >= properties.getMinRounds() && stable >= properties.getStableRounds()) {
+                converged = true;
+                return;
+            }
+        }
+    }
+
+    private long run(Scenario scenario, int iteration) {
+        long start = System.nanoTime();
+        try {
+            Object body = scenario.call().apply(iteration);
+            if (body != null) {
+                buffer.reset();
+                jsonConverter.write(body, scenario.bodyType(), MediaType.APPLICATION_JSON, buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            // Concurrent changes (e.g. a deleted user) only cost this call; the error path gets warmed too
+            errors++;
+        }
+        return System.nanoTime() - start;
+    }
+
+    private boolean login() {
+        try {
+            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+                properties.getLoginEmail(), properties.getLoginPassword()));
+            jwtUtil.generateToken(properties.getLoginEmail());
+            return true;
+        } catch (AuthenticationException e) {
+            log.warn("Warm-up login as {} failed ({}), skipping logins; set warmup.login-email and "
+                + "warmup.login-password to an existing user", properties.getLoginEmail(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Request mix, parameterized from the first page of users. Unpaged list endpoints are only included
+     * for tables small enough that replaying them does not dominate the warm-up.
+     */
+    private List<Scenario> scenarios() {
+        int pageSize = properties.getPageSize();
+        UserPageResponse<UserResponse> sample = userController.getAllUsers(0, pageSize, "id", "asc").getBody();
+        List<UserResponse> users = Objects.requireNonNull(sample).users();
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = users.stream().map(UserResponse::getId).toList();
+        List<String> tokens = users.stream().map(user -> jwtUtil.generateToken(user.getEmail())).toList();
+        String department = users.stream().map(UserResponse::getDepartment).filter(Objects::nonNull)
+            .findFirst().orElse("Engineering");
+        String firstName = users.get(0).getFirstName();
+        String namePrefix = firstName.substring(0, Math.min(2, firstName.length()));
+        int pages = Math.max(1, Math.min(sample.totalPages(), 50));
+
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(new Scenario("validate-token", null, i -> {
+            String token = tokens.get(i % tokens.size());
+            UserDetails userDetails = userService.loadUserByUsername(jwtUtil.extractUsername(token));
+            jwtUtil.validateToken(token, userDetails);
+            return null;
+        }));
+        scenarios.add(new Scenario("users-page",
+            type(new ParameterizedTypeReference<UserPageResponse<UserResponse>>() {}),
+            i -> body(userController.getAllUsers(i % pages, pageSize, SORT_FIELDS[i % SORT_FIELDS.length],
+                i % 2 == 0 ? "asc" : "desc"))));
+        scenarios.add(new Scenario("users-page-sparse",
+            type(new ParameterizedTypeReference<UserPageResponse<Map<String, Object>>>() {}),
+            i -> body(userController.getAllUsersSparse(SPARSE_FIELDS, i % pages, pageSize,
+                SORT_FIELDS[i % SORT_FIELDS.length], "asc"))));
+        scenarios.add(new Scenario("user-by-id", UserResponse.class,
+            i -> body(userController.getUserById(ids.get(i % ids.size())))));
+        scenarios.add(new Scenario("users-by-ids", UserLookupResponse.class,
+            i -> body(userController.getUsersByIds(ids))));
+        scenarios.add(new Scenario("changes", UserChangesResponse.class,
+            i -> body(userController.getUserChanges(0, pageSize))));
+        scenarios.add(new Scenario("department-count", DepartmentCountResponse.class,
+            i -> body(userController.getUserCountByDepartment(department))));
+        if (sample.totalItems() <= properties.getMaxListUsers()) {
+            Type userList = type(new ParameterizedTypeReference<List<UserResponse>>() {});
+            Type rowList = type(new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+            scenarios.add(new Scenario("users-all", userList,
+                i -> body(userController.getAllUsersWithoutPagination())));
+            scenarios.add(new Scenario("department", userList,
+                i -> body(userController.getUsersByDepartment(department))));
+            scenarios.add(new Scenario("department-sparse", rowList,
+                i -> body(userController.getUsersByDepartmentSparse(department, SPARSE_FIELDS))));
+            scenarios.add(new Scenario("age-range", userList, i -> body(userController.getUsersByAgeRange(25, 35))));
+            scenarios.add(new Scenario("search", userList,
+                i -> body(userController.searchUsersByFirstName(namePrefix))));
+            scenarios.add(new Scenario("search-sparse", rowList,
+                i -> body(userController.searchUsersByFirstNameSparse(namePrefix, SPARSE_FIELDS))));
+        }
+        return scenarios;
+    }
+
+    @Override
+    public Health health() {
+        State current = state;
+        Health.Builder health = switch (current) {
+            case PENDING, WAITING, RUNNING -> Health.outOfService();
+            default -> Health.up();
+        };
+        health.withDetail("state", current.name().toLowerCase(Locale.ROOT));
+        List<RoundStats> completed = rounds;
+        if (!completed.isEmpty()) {
+            health.withDetail("rounds", completed.size())
+                .withDetail("converged", converged)
+                .withDetail("errors", errors)
+                .withDetail("mixMeanMicros", completed.stream().map(stats -> round(stats.meanMicros())).toList())
+                .withDetail("mixP99Micros", completed.stream().map(stats -> round(stats.p99Micros())).toList())
+                .withDetail("firstRoundMicros", firstScenarioMicros)
+                .withDetail("lastRoundMicros", lastScenarioMicros);
+        }
+        if (current == State.COMPLETED || current == State.FAILED) {
+            health.withDetail("durationMillis", millis);
+        }
+        if (current == State.FAILED) {
+            health.withDetail("error", failure.toString());
+        }
+        return health.build();
+    }
+
+    private static Object body(ResponseEntity<?> response) {
+        return response.getBody();
+    }
+
+    private static Type type(ParameterizedTypeReference<?> reference) {
+        return reference.getType();
+    }
+
+    private static double round(double micros) {
+        return Math.round(micros * 10) / 10.0;
+    }
+
+    private static String format(double micros) {
+        return Long.toString(Math.round(micros));
+    }
+
+    private record Scenario(String name, Type bodyType, IntFunction<Object> call) {
+    }
+
+    private record RoundStats(int round, double meanMicros, double p99Micros) {
+    }
+
+    /**
+     * Reusable in-memory response body; only the warm-up thread writes to it
+     */
+    private static final class BufferOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(8192);
+        private HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers = new HttpHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.restacademy.dto.RegisterRequest;
 import com.restacademy.dto.UserResponse;
 import com.restacademy.model.User;
 import com.restacademy.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -37,6 +38,9 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     /**
      * User login endpoint
      * @param loginRequest login credentials
@@ -72,6 +76,7 @@ public class AuthController {
             return ResponseEntity.ok(response);
 
         } catch (BadCredentialsException e) {
+            meterRegistry.counter("auth.failures", "reason", "bad_credentials").increment();
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("Invalid email or password");
         }
@@ -0,0 +1,49 @@
+package com.restacademy.controller;
+
+import com.restacademy.dto.BatchRequest;
+import com.restacademy.dto.BatchResponse;
+import com.restacademy.service.BatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for batched user operations
+ */
+@RestController
+@RequestMapping("/api/v1/batch")
+@Tag(name = "Batch", description = "Run many user operations in one request and one transaction")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    @Autowired
+    public BatchController(BatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    /**
+     * Execute an ordered list of create/update/delete operations
+     * HTTP POST /api/v1/batch
+     */
+    @PostMapping
+    @Operation(summary = "Execute a batch of user operations",
+               description = "Runs the operations in order in a single transaction. Each result carries the HTTP status "
+                   + "the equivalent single call would have returned; 'committed' tells whether the batch was applied")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch executed, see per-operation results"),
+        @ApiResponse(responseCode = "400", description = "Invalid batch request")
+    })
+    public ResponseEntity<BatchResponse> executeBatch(@Valid @RequestBody BatchRequest batchRequest) {
+        BatchResponse response = batchService.execute(batchRequest);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,8 +1,15 @@
 package com.restacademy.controller;
 
+import com.restacademy.dto.DepartmentCountResponse;
+import com.restacademy.dto.UserChangesResponse;
 import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.dto.UserLookupRequest;
+import com.restacademy.dto.UserLookupResponse;
+import com.restacademy.dto.UserPageResponse;
 import com.restacademy.dto.UserResponse;
 import com.restacademy.dto.UserUpdateRequest;
+import com.restacademy.service.UserChangeService;
+import com.restacademy.service.UserEventStream;
 import com.restacademy.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,10 +23,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,10 +41,15 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserChangeService userChangeService;
+    private final UserEventStream userEventStream;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserChangeService userChangeService,
+                          UserEventStream userEventStream) {
         this.userService = userService;
+        this.userChangeService = userChangeService;
+        this.userEventStream = userEventStream;
     }
 
     /**
@@ -66,7 +79,7 @@ public class UserController {
         @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
     })
-    public ResponseEntity<Map<String, Object>> getAllUsers(
+    public ResponseEntity<UserPageResponse<UserResponse>> getAllUsers(
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of items per page")
@@ -76,22 +89,67 @@ public class UserController {
             @Parameter(description = "Sort direction (asc/desc)")
             @RequestParam(defaultValue = "asc") String sortDir) {
 
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<UserResponse> usersPage = userService.getAllUsers(pageable);
+        Page<UserResponse> usersPage = userService.getAllUsers(toPageable(page, size, sortBy, sortDir));
+        return ResponseEntity.ok(UserPageResponse.of(usersPage));
+    }
+
+    /**
+     * READ - Get all users with pagination, returning only the requested fields
+     * HTTP GET /api/v1/users?fields=id,email
+     */
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = "Get all users (sparse fieldset)",
+               description = "Like GET /api/v1/users, but selects and returns only the requested UserResponse properties")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown field or sort field")
+    })
+    public ResponseEntity<UserPageResponse<Map<String, Object>>> getAllUsersSparse(
+            @Parameter(description = "Comma-separated properties, e.g. id,email,firstName,lastName")
+            @RequestParam String fields,
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort field")
+            @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction (asc/desc)")
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        Page<Map<String, Object>> usersPage = userService.getAllUsers(fields, toPageable(page, size, sortBy, sortDir));
+        return ResponseEntity.ok(UserPageResponse.of(usersPage));
+    }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("users", usersPage.getContent());
-        response.put("currentPage", usersPage.getNumber());
-        response.put("totalItems", usersPage.getTotalElements());
-        response.put("totalPages", usersPage.getTotalPages());
-        response.put("pageSize", usersPage.getSize());
-        response.put("hasNext", usersPage.hasNext());
-        response.put("hasPrevious", usersPage.hasPrevious());
+    /**
+     * READ - Get several users by ID
+     * HTTP GET /api/v1/users?ids=1,2,3
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get users by IDs", description = "Resolves several users with one query, preserving request order and reporting missing ids")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup completed"),
+        @ApiResponse(responseCode = "400", description = "Too many ids")
+    })
+    public ResponseEntity<UserLookupResponse> getUsersByIds(
+            @Parameter(description = "Comma-separated user IDs") @RequestParam List<Long> ids) {
+        UserLookupResponse lookup = userService.getUsersByIds(ids);
+        return ResponseEntity.ok(lookup);
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * READ - Get several users by ID (request body variant for long id lists)
+     * HTTP POST /api/v1/users/lookup
+     */
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up users by IDs", description = "Same as GET /api/v1/users?ids= for id lists too long for a query string")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup completed"),
+        @ApiResponse(responseCode = "400", description = "Invalid input or too many ids")
+    })
+    public ResponseEntity<UserLookupResponse> lookupUsers(
+            @Valid @RequestBody UserLookupRequest userLookupRequest) {
+        UserLookupResponse lookup = userService.getUsersByIds(userLookupRequest.getIds());
+        return ResponseEntity.ok(lookup);
     }
 
     /**
@@ -105,6 +163,40 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * READ - Get users changed since a cursor (delta sync)
+     * HTTP GET /api/v1/users/changes
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "Get user changes since a cursor",
+               description = "Returns users created, updated or deleted after the given change cursor, ordered by change sequence")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Changes retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    })
+    public ResponseEntity<UserChangesResponse> getUserChanges(
+            @Parameter(description = "Cursor returned by the previous call (0 for a full sync)")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changes to return")
+            @RequestParam(defaultValue = "500") int limit) {
+        UserChangesResponse changes = userChangeService.getChangesSince(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * READ - Live stream of user changes (Server-Sent Events)
+     * HTTP GET /api/v1/users/stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream user changes",
+               description = "Pushes created/updated/deleted events after commit. Reconnect with Last-Event-ID to resume; "
+                   + "a 'resync' event means the client must catch up through /api/v1/users/changes")
+    public SseEmitter streamUserChanges(
+            @Parameter(description = "Id of the last event received")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return userEventStream.subscribe(lastEventId);
+    }
+
     /**
      * READ - Get user by ID
      * HTTP GET /api/v1/users/{id}
@@ -168,6 +260,20 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * READ - Get users by department, returning only the requested fields
+     * HTTP GET /api/v1/users/department/{department}?fields=id,email
+     */
+    @GetMapping(value = "/department/{department}", params = "fields")
+    @Operation(summary = "Get users by department (sparse fieldset)",
+               description = "Selects and returns only the requested UserResponse properties")
+    public ResponseEntity<List<Map<String, Object>>> getUsersByDepartmentSparse(
+            @Parameter(description = "Department name") @PathVariable String department,
+            @Parameter(description = "Comma-separated properties, e.g. id,email,firstName,lastName")
+            @RequestParam String fields) {
+        return ResponseEntity.ok(userService.getUsersByDepartment(department, fields));
+    }
+
     /**
      * READ - Get users by age range
      * HTTP GET /api/v1/users/age-range
@@ -193,18 +299,35 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * READ - Search users by first name, returning only the requested fields
+     * HTTP GET /api/v1/users/search?firstName=jo&fields=id,email
+     */
+    @GetMapping(value = "/search", params = "fields")
+    @Operation(summary = "Search users by first name (sparse fieldset)",
+               description = "Selects and returns only the requested UserResponse properties")
+    public ResponseEntity<List<Map<String, Object>>> searchUsersByFirstNameSparse(
+            @Parameter(description = "First name pattern") @RequestParam String firstName,
+            @Parameter(description = "Comma-separated properties, e.g. id,email,firstName,lastName")
+            @RequestParam String fields) {
+        return ResponseEntity.ok(userService.searchUsersByFirstName(firstName, fields));
+    }
+
     /**
      * READ - Get user count by department
      * HTTP GET /api/v1/users/department/{department}/count
      */
     @GetMapping("/department/{department}/count")
     @Operation(summary = "Get user count by department", description = "Gets the number of users in a specific department")
-    public ResponseEntity<Map<String, Object>> getUserCountByDepartment(
+    public ResponseEntity<DepartmentCountResponse> getUserCountByDepartment(
             @Parameter(description = "Department name") @PathVariable String department) {
         long count = userService.getUserCountByDepartment(department);
-        Map<String, Object> response = new HashMap<>();
-        response.put("department", department);
-        response.put("userCount", count);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new DepartmentCountResponse(department, count));
+    }
+
+    private static Pageable toPageable(int page, int size, String sortBy, String sortDir) {
+        Sort sort = sortDir.equalsIgnoreCase("desc") ?
+            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        return PageRequest.of(page, size, sort);
     }
 }
@@ -0,0 +1,128 @@
+package com.restacademy.controller;
+
+import com.restacademy.dto.ExportJobStatus;
+import com.restacademy.service.ExportJob;
+import com.restacademy.service.UserExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * REST Controller for bulk user exports
+ */
+@RestController
+@RequestMapping("/api/v1/users/export")
+@Tag(name = "User Export", description = "Export of all users to CSV or a compact columnar file as a background job")
+public class UserExportController {
+
+    // Tomcat serves a file named in these request attributes with sendfile once the servlet returns
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final UserExportService userExportService;
+
+    @Autowired
+    public UserExportController(UserExportService userExportService) {
+        this.userExportService = userExportService;
+    }
+
+    /**
+     * Start an export of all users
+     * HTTP POST /api/v1/users/export?format=CSV&gzip=false
+     */
+    @PostMapping
+    @Operation(summary = "Export all users",
+               description = "Writes every user to a CSV or columnar file in the background; poll the job and download it when completed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Export job queued"),
+        @ApiResponse(responseCode = "400", description = "Unknown format"),
+        @ApiResponse(responseCode = "503", description = "Job queue is full")
+    })
+    public ResponseEntity<ExportJobStatus> startExport(
+            @Parameter(description = "File format: CSV or COLUMNAR") @RequestParam(defaultValue = "CSV") ExportJob.Format format,
+            @Parameter(description = "Gzip the file") @RequestParam(defaultValue = "false") boolean gzip) throws IOException {
+        ExportJobStatus status = userExportService.startExport(format, gzip);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .location(URI.create("/api/v1/users/export/" + status.getJobId()))
+            .body(status);
+    }
+
+    /**
+     * Get the progress of an export job
+     * HTTP GET /api/v1/users/export/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get export job status", description = "Returns progress, file size and the download URL once completed")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job found"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<ExportJobStatus> getExportStatus(
+            @Parameter(description = "Export job ID") @PathVariable String jobId) {
+        return ResponseEntity.ok(userExportService.getStatus(jobId));
+    }
+
+    /**
+     * Download a completed export
+     * HTTP GET /api/v1/users/export/{jobId}/download
+     */
+    @GetMapping("/{jobId}/download")
+    @Operation(summary = "Download export file", description = "Sends the export file with zero-copy sendfile where the server supports it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export file"),
+        @ApiResponse(responseCode = "404", description = "Job not found or not completed")
+    })
+    public void downloadExport(@Parameter(description = "Export job ID") @PathVariable String jobId,
+                               HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ExportJob job = userExportService.beginDownload(jobId);
+        try {
+            long size = job.getSizeBytes();
+            response.setContentType(job.getContentType());
+            response.setContentLengthLong(size);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + job.getFileName() + "\"");
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                Optional<Path> link = userExportService.linkForDownload(job);
+                if (link.isPresent()) {
+                    // Kernel-level zero copy from the page cache to the socket. Tomcat reads the file after this
+                    // method returns, so it is given a link of its own that survives eviction of the job
+                    request.setAttribute(SENDFILE_FILENAME, link.get().toAbsolutePath().toString());
+                    request.setAttribute(SENDFILE_START, 0L);
+                    request.setAttribute(SENDFILE_END, size);
+                    return;
+                }
+            }
+
+            // No sendfile: copied through a buffer while the job is kept from being evicted
+            try (FileChannel file = FileChannel.open(job.getFile(), StandardOpenOption.READ)) {
+                WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+                long position = 0;
+                while (position < size) {
+                    position += file.transferTo(position, size - position, out);
+                }
+            }
+        } finally {
+            job.endDownload();
+        }
+    }
+}
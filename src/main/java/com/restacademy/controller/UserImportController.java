@@ -0,0 +1,115 @@
+package com.restacademy.controller;
+
+import com.restacademy.dto.ImportJobStatus;
+import com.restacademy.service.ImportJob;
+import com.restacademy.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+
+/**
+ * REST Controller for bulk user imports
+ */
+@RestController
+@RequestMapping("/api/v1/users/import")
+@Tag(name = "User Import", description = "Bulk import of users from CSV or NDJSON as a background job")
+public class UserImportController {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private final UserImportService userImportService;
+
+    @Autowired
+    public UserImportController(UserImportService userImportService) {
+        this.userImportService = userImportService;
+    }
+
+    /**
+     * Start a CSV import
+     * HTTP POST /api/v1/users/import (Content-Type: text/csv)
+     */
+    @PostMapping(consumes = CSV_VALUE)
+    @Operation(summary = "Import users from CSV",
+               description = "Header row with firstName,lastName,email,age[,department]; the file is processed in the background")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import job queued"),
+        @ApiResponse(responseCode = "503", description = "Job queue is full")
+    })
+    public ResponseEntity<ImportJobStatus> importCsv(InputStream body) throws IOException {
+        return accepted(userImportService.startImport(body, ImportJob.Format.CSV));
+    }
+
+    /**
+     * Start an NDJSON import
+     * HTTP POST /api/v1/users/import (Content-Type: application/x-ndjson)
+     */
+    @PostMapping(consumes = NDJSON_VALUE)
+    @Operation(summary = "Import users from NDJSON",
+               description = "One UserCreateRequest JSON object per line; the file is processed in the background")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import job queued"),
+        @ApiResponse(responseCode = "503", description = "Job queue is full")
+    })
+    public ResponseEntity<ImportJobStatus> importNdjson(InputStream body) throws IOException {
+        return accepted(userImportService.startImport(body, ImportJob.Format.NDJSON));
+    }
+
+    /**
+     * Get the progress of an import job
+     * HTTP GET /api/v1/users/import/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get import job status", description = "Returns progress counters and throughput of an import job")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job found"),
+        @ApiResponse(responseCode = "404", description = "Job not found")
+    })
+    public ResponseEntity<ImportJobStatus> getImportStatus(
+            @Parameter(description = "Import job ID") @PathVariable String jobId) {
+        return ResponseEntity.ok(userImportService.getStatus(jobId));
+    }
+
+    /**
+     * Download the rejected rows of a finished import job
+     * HTTP GET /api/v1/users/import/{jobId}/errors
+     */
+    @GetMapping(value = "/{jobId}/errors", produces = CSV_VALUE)
+    @Operation(summary = "Download import error report", description = "CSV with line number, email and reason of every rejected row")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Error report"),
+        @ApiResponse(responseCode = "404", description = "Job not found or not finished")
+    })
+    public void getImportErrors(@Parameter(description = "Import job ID") @PathVariable String jobId,
+                                HttpServletResponse response) throws IOException {
+        ImportJob job = userImportService.beginErrorReportDownload(jobId);
+        try {
+            response.setContentType(CSV_VALUE);
+            response.setContentLengthLong(Files.size(job.getErrorReport()));
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"import-" + jobId + "-errors.csv\"");
+            Files.copy(job.getErrorReport(), response.getOutputStream());
+        } finally {
+            job.endDownload();
+        }
+    }
+
+    private static ResponseEntity<ImportJobStatus> accepted(ImportJobStatus status) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .location(URI.create("/api/v1/users/import/" + status.getJobId()))
+            .body(status);
+    }
+}
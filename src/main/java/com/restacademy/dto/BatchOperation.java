@@ -0,0 +1,58 @@
+package com.restacademy.dto;
+
+/**
+ * DTO for one operation of a batch request.
+ * CREATE uses {@code user}; UPDATE uses {@code id} and {@code user}; DELETE uses {@code id}.
+ * The {@code user} payload is validated with the same constraints as the single-user endpoints.
+ */
+public class BatchOperation {
+
+    /**
+     * Supported operation types
+     */
+    public enum Op {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    private Op op;
+    private Long id;
+    private UserCreateRequest user;
+
+    // Default constructor
+    public BatchOperation() {
+    }
+
+    // Constructor
+    public BatchOperation(Op op, Long id, UserCreateRequest user) {
+        this.op = op;
+        this.id = id;
+        this.user = user;
+    }
+
+    // Getters and Setters
+    public Op getOp() {
+        return op;
+    }
+
+    public void setOp(Op op) {
+        this.op = op;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UserCreateRequest getUser() {
+        return user;
+    }
+
+    public void setUser(UserCreateRequest user) {
+        this.user = user;
+    }
+}
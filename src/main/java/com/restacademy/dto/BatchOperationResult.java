@@ -0,0 +1,73 @@
+package com.restacademy.dto;
+
+/**
+ * DTO for the outcome of one batch operation, with the HTTP status the equivalent single call would return
+ */
+public class BatchOperationResult {
+
+    private int index;
+    private BatchOperation.Op op;
+    private int status;
+    private Long id;
+    private UserResponse user;
+    private String error;
+
+    // Default constructor
+    public BatchOperationResult() {
+    }
+
+    // Constructor
+    public BatchOperationResult(int index, BatchOperation.Op op) {
+        this.index = index;
+        this.op = op;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public BatchOperation.Op getOp() {
+        return op;
+    }
+
+    public void setOp(BatchOperation.Op op) {
+        this.op = op;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UserResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,55 @@
+package com.restacademy.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO for an ordered list of user operations executed in one transaction
+ */
+public class BatchRequest {
+
+    /**
+     * How failures of individual operations are handled
+     */
+    public enum Mode {
+        /** The first failing operation rolls back the whole batch */
+        ALL_OR_NOTHING,
+        /** Failing operations are reported and skipped, the rest is committed */
+        CONTINUE_ON_ERROR
+    }
+
+    @NotNull(message = "Mode is required")
+    private Mode mode = Mode.ALL_OR_NOTHING;
+
+    @NotEmpty(message = "At least one operation is required")
+    private List<BatchOperation> operations;
+
+    // Default constructor
+    public BatchRequest() {
+    }
+
+    // Constructor
+    public BatchRequest(Mode mode, List<BatchOperation> operations) {
+        this.mode = mode;
+        this.operations = operations;
+    }
+
+    // Getters and Setters
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public List<BatchOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BatchOperation> operations) {
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,70 @@
+package com.restacademy.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a batch request
+ */
+public class BatchResponse {
+
+    private BatchRequest.Mode mode;
+    private boolean committed;
+    private int succeeded;
+    private int failed;
+    private List<BatchOperationResult> results;
+
+    // Default constructor
+    public BatchResponse() {
+    }
+
+    // Full constructor
+    public BatchResponse(BatchRequest.Mode mode, boolean committed, int succeeded, int failed,
+                         List<BatchOperationResult> results) {
+        this.mode = mode;
+        this.committed = committed;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public BatchRequest.Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(BatchRequest.Mode mode) {
+        this.mode = mode;
+    }
+
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    public void setCommitted(boolean committed) {
+        this.committed = committed;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BatchOperationResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchOperationResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,7 @@
+package com.restacademy.dto;
+
+/**
+ * DTO for the number of users in a department
+ */
+public record DepartmentCountResponse(String department, long userCount) {
+}
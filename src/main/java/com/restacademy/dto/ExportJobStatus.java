@@ -0,0 +1,141 @@
+package com.restacademy.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the progress of a background user export
+ */
+public class ExportJobStatus {
+
+    private String jobId;
+    private String format;
+    private boolean gzip;
+    private String state;
+    private long rowsWritten;
+    private long sizeBytes;
+    private long rowsPerSecond;
+    private String downloadUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;
+
+    // Default constructor
+    public ExportJobStatus() {
+    }
+
+    // Full constructor
+    public ExportJobStatus(String jobId, String format, boolean gzip, String state, long rowsWritten, long sizeBytes,
+                           long rowsPerSecond, String downloadUrl, LocalDateTime createdAt, LocalDateTime startedAt,
+                           LocalDateTime finishedAt, String message) {
+        this.jobId = jobId;
+        this.format = format;
+        this.gzip = gzip;
+        this.state = state;
+        this.rowsWritten = rowsWritten;
+        this.sizeBytes = sizeBytes;
+        this.rowsPerSecond = rowsPerSecond;
+        this.downloadUrl = downloadUrl;
+        this.createdAt = createdAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    public void setRowsWritten(long rowsWritten) {
+        this.rowsWritten = rowsWritten;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(long rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public String getDownloadUrl() {
+        return downloadUrl;
+    }
+
+    public void setDownloadUrl(String downloadUrl) {
+        this.downloadUrl = downloadUrl;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
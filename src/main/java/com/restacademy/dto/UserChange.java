@@ -0,0 +1,76 @@
+package com.restacademy.dto;
+
+import com.restacademy.model.User;
+import com.restacademy.model.UserTombstone;
+
+/**
+ * DTO for a single entry of the user delta-sync feed
+ */
+public class UserChange {
+
+    /**
+     * Kind of change: the user was created or updated, or the user was deleted
+     */
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+
+    private long seq;
+    private Type type;
+    private Long id;
+    private UserResponse user;
+
+    // Default constructor
+    public UserChange() {
+    }
+
+    // Full constructor
+    public UserChange(long seq, Type type, Long id, UserResponse user) {
+        this.seq = seq;
+        this.type = type;
+        this.id = id;
+        this.user = user;
+    }
+
+    public static UserChange upsert(User user) {
+        return new UserChange(user.getChangeSeq(), Type.UPSERT, user.getId(), new UserResponse(user));
+    }
+
+    public static UserChange delete(UserTombstone tombstone) {
+        return new UserChange(tombstone.getChangeSeq(), Type.DELETE, tombstone.getUserId(), null);
+    }
+
+    // Getters and Setters
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UserResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+}
@@ -0,0 +1,49 @@
+package com.restacademy.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a page of the user delta-sync feed
+ */
+public class UserChangesResponse {
+
+    private List<UserChange> changes;
+    private long nextCursor;
+    private boolean hasMore;
+
+    // Default constructor
+    public UserChangesResponse() {
+    }
+
+    // Full constructor
+    public UserChangesResponse(List<UserChange> changes, long nextCursor, boolean hasMore) {
+        this.changes = changes;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<UserChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<UserChange> changes) {
+        this.changes = changes;
+    }
+
+    public long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,33 @@
+package com.restacademy.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO for resolving several users by id in one call
+ */
+public class UserLookupRequest {
+
+    @NotEmpty(message = "At least one id is required")
+    private List<@NotNull(message = "Ids must not be null") Long> ids;
+
+    // Default constructor
+    public UserLookupRequest() {
+    }
+
+    // Constructor
+    public UserLookupRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,39 @@
+package com.restacademy.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a batch lookup: found users in request order plus the ids that do not exist
+ */
+public class UserLookupResponse {
+
+    private List<UserResponse> users;
+    private List<Long> missingIds;
+
+    // Default constructor
+    public UserLookupResponse() {
+    }
+
+    // Full constructor
+    public UserLookupResponse(List<UserResponse> users, List<Long> missingIds) {
+        this.users = users;
+        this.missingIds = missingIds;
+    }
+
+    // Getters and Setters
+    public List<UserResponse> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<UserResponse> users) {
+        this.users = users;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,34 @@
+package com.restacademy.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * DTO for one page of users; {@code T} is {@link UserResponse}, or a row map for sparse fieldsets
+ */
+public record UserPageResponse<T>(
+    List<T> users,
+    int currentPage,
+    long totalItems,
+    int totalPages,
+    int pageSize,
+    boolean hasNext,
+    boolean hasPrevious
+) {
+
+    /**
+     * Build the envelope from a Spring Data page
+     */
+    public static <T> UserPageResponse<T> of(Page<T> page) {
+        return new UserPageResponse<>(
+            page.getContent(),
+            page.getNumber(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            page.getSize(),
+            page.hasNext(),
+            page.hasPrevious()
+        );
+    }
+}
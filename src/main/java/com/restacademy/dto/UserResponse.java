@@ -2,12 +2,19 @@ package com.restacademy.dto;
 
 import com.restacademy.model.User;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for user response
  */
 public class UserResponse {
 
+    /**
+     * Properties that can be requested through the {@code fields} parameter
+     */
+    public static final List<String> FIELDS = List.of(
+        "id", "firstName", "lastName", "email", "age", "department", "createdAt", "updatedAt");
+
     private Long id;
     private String firstName;
     private String lastName;
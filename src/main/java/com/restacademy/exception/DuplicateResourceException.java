@@ -2,14 +2,15 @@ package com.restacademy.exception;
 
 /**
  * Exception thrown when attempting to create a duplicate resource
+ * Stackless: it is an expected outcome (a 409 for every taken email), so no stack trace is captured.
  */
 public class DuplicateResourceException extends RuntimeException {
 
     public DuplicateResourceException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public DuplicateResourceException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
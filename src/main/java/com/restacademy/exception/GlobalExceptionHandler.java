@@ -1,165 +1,175 @@
 package com.restacademy.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Global exception handler for REST API
+ * Errors are RFC 7807 problem details ({@code application/problem+json}): {@code type}, {@code title},
+ * {@code status}, {@code detail} and the request path as {@code instance}, plus {@code validationErrors} for
+ * invalid request bodies. Status, type and title of each kind of problem are precomputed; the time of the
+ * error is left to the {@code Date} header. Filters that reject requests before Spring MVC (rate limiting,
+ * load shedding) build the same body with {@link #problemDetail}.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    public static final String VALIDATION_ERRORS = "validationErrors";
+
+    private static final String PROBLEM_TYPE_PREFIX = "urn:restacademy:problem:";
+    private static final String JOB_RETRY_AFTER_SECONDS = "5";
+
+    /**
+     * Static parts of each kind of problem
+     */
+    public enum Problem {
+        NOT_FOUND(HttpStatus.NOT_FOUND, "not-found", "Resource Not Found"),
+        DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "duplicate-resource", "Duplicate Resource"),
+        DATA_INTEGRITY_VIOLATION(HttpStatus.CONFLICT, "data-integrity-violation", "Data Integrity Violation"),
+        VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "validation-failed", "Validation Failed"),
+        BAD_REQUEST(HttpStatus.BAD_REQUEST, "bad-request", "Bad Request"),
+        JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "job-queue-full", "Job Queue Full"),
+        RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "rate-limited", "Too Many Requests"),
+        OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "overloaded", "Service Overloaded"),
+        INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "internal-server-error", "Internal Server Error");
+
+        private final HttpStatus status;
+        private final URI type;
+        private final String title;
+
+        Problem(HttpStatus status, String type, String title) {
+            this.status = status;
+            this.type = URI.create(PROBLEM_TYPE_PREFIX + type);
+            this.title = title;
+        }
+
+        public HttpStatus getStatus() {
+            return status;
+        }
+    }
+
     /**
      * Handle resource not found exceptions
      */
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
-            ResourceNotFoundException ex, WebRequest request) {
-        
-        ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.NOT_FOUND.value(),
-            "Resource Not Found",
-            ex.getMessage(),
-            request.getDescription(false)
-        );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    public ResponseEntity<ProblemDetail> handleResourceNotFoundException(
+            ResourceNotFoundException ex, HttpServletRequest request) {
+        return problem(Problem.NOT_FOUND, ex.getMessage(), request);
     }
 
     /**
      * Handle duplicate resource exceptions
      */
     @ExceptionHandler(DuplicateResourceException.class)
-    public ResponseEntity<ErrorResponse> handleDuplicateResourceException(
-            DuplicateResourceException ex, WebRequest request) {
-        
-        ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.CONFLICT.value(),
-            "Duplicate Resource",
-            ex.getMessage(),
-            request.getDescription(false)
-        );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    public ResponseEntity<ProblemDetail> handleDuplicateResourceException(
+            DuplicateResourceException ex, HttpServletRequest request) {
+        return problem(Problem.DUPLICATE_RESOURCE, ex.getMessage(), request);
+    }
+
+    /**
+     * Handle constraint violations detected by the database (e.g. a concurrent insert of the same email)
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemDetail> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+        return problem(Problem.DATA_INTEGRITY_VIOLATION, "The request conflicts with existing data", request);
     }
 
     /**
      * Handle validation exceptions
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationExceptions(
-            MethodArgumentNotValidException ex, WebRequest request) {
-        
-        Map<String, String> validationErrors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            validationErrors.put(fieldName, errorMessage);
-        });
-
-        ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.BAD_REQUEST.value(),
-            "Validation Failed",
-            "Invalid input parameters",
-            request.getDescription(false)
-        );
-        errorResponse.setValidationErrors(validationErrors);
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ProblemDetail> handleValidationExceptions(
+            MethodArgumentNotValidException ex, HttpServletRequest request) {
+        List<FieldError> fieldErrors = ex.getBindingResult().getFieldErrors();
+        Map<String, String> validationErrors = new LinkedHashMap<>(fieldErrors.size() * 2);
+        for (FieldError fieldError : fieldErrors) {
+            validationErrors.put(fieldError.getField(), fieldError.getDefaultMessage());
+        }
+
+        ResponseEntity<ProblemDetail> response =
+            problem(Problem.VALIDATION_FAILED, "Invalid input parameters", request);
+        response.getBody().setProperty(VALIDATION_ERRORS, validationErrors);
+        return response;
     }
 
     /**
-     * Handle general exceptions
+     * Handle invalid request arguments rejected by the service layer
      */
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<ErrorResponse> handleGlobalException(
-            Exception ex, WebRequest request) {
-        
-        ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.INTERNAL_SERVER_ERROR.value(),
-            "Internal Server Error",
-            "An unexpected error occurred",
-            request.getDescription(false)
-        );
-        
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> handleIllegalArgumentException(
+            IllegalArgumentException ex, HttpServletRequest request) {
+        return problem(Problem.BAD_REQUEST, ex.getMessage(), request);
     }
 
     /**
-     * Error response structure
+     * Handle request parameters that cannot be converted to the expected type (e.g. an unknown enum value)
      */
-    public static class ErrorResponse {
-        private LocalDateTime timestamp;
-        private int status;
-        private String error;
-        private String message;
-        private String path;
-        private Map<String, String> validationErrors;
-
-        public ErrorResponse(int status, String error, String message, String path) {
-            this.timestamp = LocalDateTime.now();
-            this.status = status;
-            this.error = error;
-            this.message = message;
-            this.path = path;
-        }
-
-        // Getters and Setters
-        public LocalDateTime getTimestamp() {
-            return timestamp;
-        }
-
-        public void setTimestamp(LocalDateTime timestamp) {
-            this.timestamp = timestamp;
-        }
-
-        public int getStatus() {
-            return status;
-        }
-
-        public void setStatus(int status) {
-            this.status = status;
-        }
-
-        public String getError() {
-            return error;
-        }
-
-        public void setError(String error) {
-            this.error = error;
-        }
-
-        public String getMessage() {
-            return message;
-        }
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ProblemDetail> handleTypeMismatchException(
+            MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+        return problem(Problem.BAD_REQUEST,
+            "Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'", request);
+    }
 
-        public void setMessage(String message) {
-            this.message = message;
-        }
+    /**
+     * Handle background jobs (imports, exports) rejected because the job queue is full
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleTaskRejectedException(
+            TaskRejectedException ex, HttpServletRequest request) {
+        ResponseEntity<ProblemDetail> response =
+            problem(Problem.JOB_QUEUE_FULL, "Too many background jobs are queued, please retry later", request);
+        return ResponseEntity.status(response.getStatusCode())
+            .header(HttpHeaders.RETRY_AFTER, JOB_RETRY_AFTER_SECONDS)
+            .body(response.getBody());
+    }
 
-        public String getPath() {
-            return path;
-        }
+    /**
+     * Handle general exceptions
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ProblemDetail> handleGlobalException(
+            Exception ex, HttpServletRequest request) {
+        return problem(Problem.INTERNAL_SERVER_ERROR, "An unexpected error occurred", request);
+    }
 
-        public void setPath(String path) {
-            this.path = path;
-        }
+    /**
+     * Problem detail body for the request
+     */
+    public static ProblemDetail problemDetail(Problem problem, String detail, HttpServletRequest request) {
+        ProblemDetail body = ProblemDetail.forStatus(problem.status);
+        body.setType(problem.type);
+        body.setTitle(problem.title);
+        body.setDetail(detail);
+        body.setInstance(instance(request));
+        return body;
+    }
 
-        public Map<String, String> getValidationErrors() {
-            return validationErrors;
-        }
+    private static ResponseEntity<ProblemDetail> problem(Problem problem, String detail, HttpServletRequest request) {
+        return new ResponseEntity<>(problemDetail(problem, detail, request), problem.status);
+    }
 
-        public void setValidationErrors(Map<String, String> validationErrors) {
-            this.validationErrors = validationErrors;
+    private static URI instance(HttpServletRequest request) {
+        try {
+            return URI.create(request.getRequestURI());
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 }
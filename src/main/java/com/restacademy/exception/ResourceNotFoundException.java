@@ -2,14 +2,15 @@ package com.restacademy.exception;
 
 /**
  * Exception thrown when a requested resource is not found
+ * Stackless: it is an expected outcome (a 404 for every unknown id), so no stack trace is captured.
  */
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public ResourceNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -0,0 +1,26 @@
+package com.restacademy.model;
+
+import com.restacademy.service.ChangeSequencer;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * JPA entity listener stamping {@link ChangeTracked} entities with the next change sequence number.
+ * Instantiated by Hibernate through Spring's bean container, so the sequencer is injected.
+ */
+public class ChangeSequenceListener {
+
+    private final ChangeSequencer changeSequencer;
+
+    @Autowired
+    public ChangeSequenceListener(ChangeSequencer changeSequencer) {
+        this.changeSequencer = changeSequencer;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void assignChangeSeq(Object entity) {
+        ((ChangeTracked) entity).setChangeSeq(changeSequencer.next());
+    }
+}
@@ -0,0 +1,12 @@
+package com.restacademy.model;
+
+/**
+ * Entities whose changes are published through the delta-sync feed.
+ * The change sequence is assigned by {@link ChangeSequenceListener} on every insert and update.
+ */
+public interface ChangeTracked {
+
+    Long getChangeSeq();
+
+    void setChangeSeq(Long changeSeq);
+}
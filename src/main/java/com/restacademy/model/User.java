@@ -14,11 +14,17 @@ import java.util.Collections;
 import java.util.Objects;
 
 @Entity
-@Table(name = "users")
-public class User implements UserDetails {
-
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_change_seq", columnList = "change_seq"),
+    @Index(name = "idx_users_updated_at", columnList = "updated_at")
+})
+@EntityListeners(ChangeSequenceListener.class)
+public class User implements UserDetails, ChangeTracked {
+
+    // Pooled sequence rather than IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -43,7 +49,8 @@ public class User implements UserDetails {
     @Column(name = "department", length = 100)
     private String department;
 
-    @Column(name = "password", nullable = false)
+    // Users created through the admin API have no password until they register
+    @Column(name = "password")
     private String password;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -52,6 +59,9 @@ public class User implements UserDetails {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     // Default constructor
     public User() {
     }
@@ -151,6 +161,16 @@ public class User implements UserDetails {
         this.updatedAt = updatedAt;
     }
 
+    @Override
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    @Override
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
     public String getPassword() {
         return password;
     }
@@ -0,0 +1,77 @@
+package com.restacademy.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker left behind when a user is deleted, so that deletions propagate through the delta-sync feed
+ */
+@Entity
+@Table(name = "user_tombstones",
+       indexes = @Index(name = "idx_user_tombstones_change_seq", columnList = "change_seq"))
+@EntityListeners(ChangeSequenceListener.class)
+public class UserTombstone implements ChangeTracked {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_tombstones_seq")
+    @SequenceGenerator(name = "user_tombstones_seq", sequenceName = "user_tombstones_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    // Default constructor
+    public UserTombstone() {
+    }
+
+    public UserTombstone(Long userId) {
+        this.userId = userId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    @Override
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.restacademy.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projection queries selecting only the requested user columns.
+ * Field names are {@link com.restacademy.model.User} attribute names and must be validated by the caller.
+ */
+public interface UserProjectionRepository {
+
+    /**
+     * Find a page of users, selecting only the given fields
+     * @param fields attribute names to select, in output order
+     * @param pageable pagination and sorting
+     * @return page of rows keyed by field name
+     */
+    Page<Map<String, Object>> findAllProjected(List<String> fields, Pageable pageable);
+
+    /**
+     * Find users by department ordered by last name, selecting only the given fields
+     * @param department the department name
+     * @param fields attribute names to select, in output order
+     * @return rows keyed by field name
+     */
+    List<Map<String, Object>> findByDepartmentProjected(String department, List<String> fields);
+
+    /**
+     * Find users by first name containing (case insensitive), selecting only the given fields
+     * @param firstName the first name pattern
+     * @param fields attribute names to select, in output order
+     * @return rows keyed by field name
+     */
+    List<Map<String, Object>> findByFirstNameContainingProjected(String firstName, List<String> fields);
+}
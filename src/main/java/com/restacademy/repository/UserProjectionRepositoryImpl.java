@@ -0,0 +1,101 @@
+package com.restacademy.repository;
+
+import com.restacademy.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Criteria-based implementation of {@link UserProjectionRepository}: builds a tuple query whose SELECT
+ * list contains only the requested columns, so neither the database nor Hibernate touches the others.
+ */
+public class UserProjectionRepositoryImpl implements UserProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findAllProjected(List<String> fields, Pageable pageable) {
+        TypedQuery<Tuple> query = tupleQuery(fields, null, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = toRows(query.getResultList());
+        return PageableExecutionUtils.getPage(content, pageable, this::countAll);
+    }
+
+    @Override
+    public List<Map<String, Object>> findByDepartmentProjected(String department, List<String> fields) {
+        return toRows(tupleQuery(fields,
+            (root, cb) -> cb.equal(root.get("department"), department),
+            Sort.by("lastName")).getResultList());
+    }
+
+    @Override
+    public List<Map<String, Object>> findByFirstNameContainingProjected(String firstName, List<String> fields) {
+        String pattern = "%" + firstName.toLowerCase(Locale.ROOT) + "%";
+        return toRows(tupleQuery(fields,
+            (root, cb) -> cb.like(cb.lower(root.get("firstName")), pattern),
+            Sort.unsorted()).getResultList());
+    }
+
+    private TypedQuery<Tuple> tupleQuery(List<String> fields,
+                                         BiFunction<Root<User>, CriteriaBuilder, Predicate> filter, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> root = query.from(User.class);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(root.get(field).alias(field));
+        }
+        query.multiselect(selections);
+        if (filter != null) {
+            query.where(filter.apply(root, cb));
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long countAll() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(User.class)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Map<String, Object>> toRows(List<Tuple> tuples) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            List<TupleElement<?>> elements = tuple.getElements();
+            Map<String, Object> row = new LinkedHashMap<>(elements.size() * 2);
+            for (int i = 0; i < elements.size(); i++) {
+                row.put(elements.get(i).getAlias(), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
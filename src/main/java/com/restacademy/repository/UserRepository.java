@@ -1,16 +1,22 @@
 package com.restacademy.repository;
 
 import com.restacademy.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserProjectionRepository {
 
     /**
      * Find user by email address
@@ -41,6 +47,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Find users owning any of the given email addresses
+     * @param emails the emails to check
+     * @return users whose email is in the collection
+     */
+    List<User> findByEmailIn(Collection<String> emails);
+
+    /**
+     * Find which of the given email addresses are already taken, without loading the users
+     * @param emails the emails to check
+     * @return the subset of emails that exist
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     /**
      * Find users by first name containing (case insensitive)
      * @param firstName the first name pattern
@@ -62,4 +83,34 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return count of users in department
      */
     long countByDepartment(String department);
+
+    /**
+     * Find users created or updated within a change sequence window
+     * @param since exclusive lower bound of the window
+     * @param upTo inclusive upper bound of the window
+     * @param pageable limit of the result
+     * @return users ordered by change sequence
+     */
+    @Query("SELECT u FROM User u WHERE u.changeSeq > :since AND u.changeSeq <= :upTo ORDER BY u.changeSeq ASC")
+    List<User> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo, Pageable pageable);
+
+    /**
+     * Highest change sequence stored in the users table
+     * @return the maximum change sequence, 0 if the table is empty
+     */
+    @Query("SELECT COALESCE(MAX(u.changeSeq), 0) FROM User u")
+    long findMaxChangeSeq();
+
+    /**
+     * Scroll over all users in id order without materializing the result list.
+     * Must be consumed inside a transaction and closed afterwards; rows are fetched from the driver
+     * in chunks and loaded read-only, so no dirty-checking snapshots are kept.
+     * @return stream of users ordered by id
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u ORDER BY u.id ASC")
+    Stream<User> streamAllOrderedById();
 }
@@ -0,0 +1,31 @@
+package com.restacademy.repository;
+
+import com.restacademy.model.UserTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserTombstoneRepository extends JpaRepository<UserTombstone, Long> {
+
+    /**
+     * Find tombstones written within a change sequence window
+     * @param since exclusive lower bound of the window
+     * @param upTo inclusive upper bound of the window
+     * @param pageable limit of the result
+     * @return tombstones ordered by change sequence
+     */
+    @Query("SELECT t FROM UserTombstone t WHERE t.changeSeq > :since AND t.changeSeq <= :upTo ORDER BY t.changeSeq ASC")
+    List<UserTombstone> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo, Pageable pageable);
+
+    /**
+     * Highest change sequence stored in the tombstone table
+     * @return the maximum change sequence, 0 if there are no tombstones
+     */
+    @Query("SELECT COALESCE(MAX(t.changeSeq), 0) FROM UserTombstone t")
+    long findMaxChangeSeq();
+}
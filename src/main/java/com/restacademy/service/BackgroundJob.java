@@ -0,0 +1,137 @@
+package com.restacademy.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lifecycle of one background job (import, export); updated by its worker, read by status and download requests.
+ * The files a job owns are kept while downloads read them and deleted when the job is evicted from its
+ * {@link JobRegistry}.
+ */
+public abstract class BackgroundJob {
+
+    /**
+     * Lifecycle of a job
+     */
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private static final int EVICTED = -1;
+
+    private final String id;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    // Downloads in progress, or EVICTED once the files have been deleted
+    private final AtomicInteger downloads = new AtomicInteger();
+
+    private volatile State state = State.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+
+    protected BackgroundJob(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Files owned by the job, deleted when it is evicted or rejected
+     */
+    protected abstract List<Path> files();
+
+    void markRunning() {
+        startedAt = LocalDateTime.now();
+        state = State.RUNNING;
+    }
+
+    void markCompleted() {
+        finishedAt = LocalDateTime.now();
+        state = State.COMPLETED;
+    }
+
+    void markFailed(String failure) {
+        message = failure;
+        finishedAt = LocalDateTime.now();
+        state = State.FAILED;
+    }
+
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    /**
+     * Keep the job's files until {@link #endDownload()}, even if the job is evicted meanwhile
+     * @return false if the job has already been evicted and its files are gone
+     */
+    public boolean beginDownload() {
+        int current;
+        do {
+            current = downloads.get();
+            if (current == EVICTED) {
+                return false;
+            }
+        } while (!downloads.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void endDownload() {
+        downloads.decrementAndGet();
+    }
+
+    /**
+     * Delete the files of a finished job that nobody is downloading
+     * @return false if the job is still running or being downloaded
+     */
+    boolean evict() throws IOException {
+        if (!isFinished() || !downloads.compareAndSet(0, EVICTED)) {
+            return false;
+        }
+        deleteFiles();
+        return true;
+    }
+
+    void deleteFiles() throws IOException {
+        for (Path file : files()) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    protected long rowsPerSecond(long rows) {
+        if (startedAt == null) {
+            return 0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        return rows * 1000 / Math.max(1, Duration.between(startedAt, end).toMillis());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
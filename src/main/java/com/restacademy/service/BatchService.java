@@ -0,0 +1,291 @@
+package com.restacademy.service;
+
+import com.restacademy.dto.BatchOperation;
+import com.restacademy.dto.BatchOperationResult;
+import com.restacademy.dto.BatchRequest;
+import com.restacademy.dto.BatchResponse;
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.dto.UserResponse;
+import com.restacademy.model.User;
+import com.restacademy.model.UserTombstone;
+import com.restacademy.repository.UserRepository;
+import com.restacademy.repository.UserTombstoneRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Executes an ordered list of user operations in a single transaction.
+ *
+ * Every user and email the batch touches is loaded up front with two IN queries, and operations are
+ * checked against that in-memory state instead of issuing per-operation existence checks. Writes are
+ * only queued in the persistence context, so Hibernate flushes them as JDBC batches at commit.
+ */
+@Service
+public class BatchService {
+
+    public static final int MAX_OPERATIONS = 1000;
+
+    private final UserRepository userRepository;
+    private final UserTombstoneRepository userTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public BatchService(UserRepository userRepository, UserTombstoneRepository userTombstoneRepository,
+                        ApplicationEventPublisher eventPublisher, Validator validator,
+                        PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userTombstoneRepository = userTombstoneRepository;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Execute a batch of user operations
+     * @param batchRequest the operations and the failure mode
+     * @return per-operation results and whether the batch was committed
+     */
+    public BatchResponse execute(BatchRequest batchRequest) {
+        List<BatchOperation> operations = batchRequest.getOperations();
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("At most " + MAX_OPERATIONS + " operations are allowed per batch");
+        }
+        BatchRequest.Mode mode = batchRequest.getMode();
+
+        List<BatchOperationResult> results = new ArrayList<>(operations.size());
+        Boolean committed = transactionTemplate.execute(status -> run(operations, mode, results, status));
+
+        int succeeded = 0;
+        for (BatchOperationResult result : results) {
+            if (result.getStatus() < 400) {
+                succeeded++;
+            }
+        }
+        return new BatchResponse(mode, Boolean.TRUE.equals(committed), succeeded, results.size() - succeeded, results);
+    }
+
+    private boolean run(List<BatchOperation> operations, BatchRequest.Mode mode,
+                        List<BatchOperationResult> results, TransactionStatus status) {
+        BatchState state = prefetch(operations);
+        Map<BatchOperationResult, User> written = new HashMap<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            BatchOperationResult result = new BatchOperationResult(i, operation.getOp());
+            results.add(result);
+
+            User user = apply(operation, result, state);
+            if (user != null) {
+                written.put(result, user);
+            }
+
+            if (result.getStatus() >= 400 && mode == BatchRequest.Mode.ALL_OR_NOTHING) {
+                status.setRollbackOnly();
+                abortRemaining(operations, results, i);
+                return false;
+            }
+        }
+
+        // Run the queued inserts/updates/deletes now so responses carry the persisted timestamps. Flushing through
+        // the repository translates a unique-key conflict with a concurrent writer to DataIntegrityViolationException
+        userRepository.flush();
+        written.forEach((result, user) -> result.setUser(new UserResponse(user)));
+        return true;
+    }
+
+    private BatchState prefetch(List<BatchOperation> operations) {
+        Set<Long> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (BatchOperation operation : operations) {
+            if (operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+            if (operation.getUser() != null && operation.getUser().getEmail() != null) {
+                emails.add(operation.getUser().getEmail());
+            }
+        }
+
+        BatchState state = new BatchState();
+        if (!ids.isEmpty()) {
+            for (User user : userRepository.findAllById(ids)) {
+                state.users.put(user.getId(), user);
+                state.emailOwners.put(user.getEmail(), user.getId());
+            }
+        }
+        if (!emails.isEmpty()) {
+            for (User user : userRepository.findByEmailIn(emails)) {
+                state.emailOwners.put(user.getEmail(), user.getId());
+            }
+        }
+        return state;
+    }
+
+    private User apply(BatchOperation operation, BatchOperationResult result, BatchState state) {
+        if (operation.getOp() == null) {
+            fail(result, HttpStatus.BAD_REQUEST, "Operation type is required");
+            return null;
+        }
+        switch (operation.getOp()) {
+            case CREATE:
+                return create(operation, result, state);
+            case UPDATE:
+                return update(operation, result, state);
+            default:
+                delete(operation, result, state);
+                return null;
+        }
+    }
+
+    private User create(BatchOperation operation, BatchOperationResult result, BatchState state) {
+        UserCreateRequest request = operation.getUser();
+        if (!isValid(request, result)) {
+            return null;
+        }
+        if (state.emailOwners.containsKey(request.getEmail())) {
+            fail(result, HttpStatus.CONFLICT, "Email already exists: " + request.getEmail());
+            return null;
+        }
+        state.claim(request.getEmail());
+
+        User user = userRepository.save(new User(
+            request.getFirstName(),
+            request.getLastName(),
+            request.getEmail(),
+            request.getAge(),
+            request.getDepartment()
+        ));
+        state.emailOwners.put(user.getEmail(), user.getId());
+        eventPublisher.publishEvent(UserChangedEvent.created(user));
+
+        result.setStatus(HttpStatus.CREATED.value());
+        result.setId(user.getId());
+        return user;
+    }
+
+    private User update(BatchOperation operation, BatchOperationResult result, BatchState state) {
+        UserCreateRequest request = operation.getUser();
+        if (!isValid(request, result)) {
+            return null;
+        }
+        User user = operation.getId() != null ? state.users.get(operation.getId()) : null;
+        if (user == null) {
+            fail(result, HttpStatus.NOT_FOUND, "User not found with id: " + operation.getId());
+            return null;
+        }
+        Long owner = state.emailOwners.get(request.getEmail());
+        if (owner != null && !owner.equals(user.getId())) {
+            fail(result, HttpStatus.CONFLICT, "Email already exists: " + request.getEmail());
+            return null;
+        }
+
+        if (!user.getEmail().equals(request.getEmail())) {
+            state.claim(request.getEmail());
+            state.release(user.getEmail());
+            state.emailOwners.put(request.getEmail(), user.getId());
+        }
+        user.setFirstName(request.getFirstName());
+        user.setLastName(request.getLastName());
+        user.setEmail(request.getEmail());
+        user.setAge(request.getAge());
+        user.setDepartment(request.getDepartment());
+        eventPublisher.publishEvent(UserChangedEvent.updated(user));
+
+        result.setStatus(HttpStatus.OK.value());
+        result.setId(user.getId());
+        return user;
+    }
+
+    private void delete(BatchOperation operation, BatchOperationResult result, BatchState state) {
+        User user = operation.getId() != null ? state.users.remove(operation.getId()) : null;
+        if (user == null) {
+            fail(result, HttpStatus.NOT_FOUND, "User not found with id: " + operation.getId());
+            return;
+        }
+        state.release(user.getEmail());
+
+        userRepository.delete(user);
+        UserTombstone tombstone = userTombstoneRepository.save(new UserTombstone(user.getId()));
+        eventPublisher.publishEvent(UserChangedEvent.deleted(tombstone));
+
+        result.setStatus(HttpStatus.NO_CONTENT.value());
+        result.setId(user.getId());
+    }
+
+    private boolean isValid(UserCreateRequest request, BatchOperationResult result) {
+        if (request == null) {
+            fail(result, HttpStatus.BAD_REQUEST, "User data is required");
+            return false;
+        }
+        Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return true;
+        }
+        fail(result, HttpStatus.BAD_REQUEST, violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", ")));
+        return false;
+    }
+
+    private void abortRemaining(List<BatchOperation> operations, List<BatchOperationResult> results, int failedIndex) {
+        String reason = "Rolled back because operation " + failedIndex + " failed";
+        for (BatchOperationResult result : results) {
+            if (result.getIndex() != failedIndex) {
+                fail(result, HttpStatus.FAILED_DEPENDENCY, reason);
+            }
+        }
+        for (int i = failedIndex + 1; i < operations.size(); i++) {
+            BatchOperationResult skipped = new BatchOperationResult(i, operations.get(i).getOp());
+            fail(skipped, HttpStatus.FAILED_DEPENDENCY, "Not executed because operation " + failedIndex + " failed");
+            results.add(skipped);
+        }
+    }
+
+    private static void fail(BatchOperationResult result, HttpStatus status, String error) {
+        result.setStatus(status.value());
+        result.setError(error);
+        result.setUser(null);
+    }
+
+    /**
+     * In-memory view of the users and emails touched by the batch
+     */
+    private final class BatchState {
+
+        private final Map<Long, User> users = new HashMap<>();
+        private final Map<String, Long> emailOwners = new HashMap<>();
+        // Emails given up by a delete or an email change that have not been flushed yet
+        private final Set<String> releasedEmails = new HashSet<>();
+
+        void release(String email) {
+            emailOwners.remove(email);
+            releasedEmails.add(email);
+        }
+
+        void claim(String email) {
+            // Hibernate flushes inserts and updates before deletes, so the previous owner's row has to
+            // be written before the email can be reused without tripping the unique constraint
+            if (releasedEmails.contains(email)) {
+                userRepository.flush();
+                releasedEmails.clear();
+            }
+        }
+    }
+}
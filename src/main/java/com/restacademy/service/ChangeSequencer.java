@@ -0,0 +1,116 @@
+package com.restacademy.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Source of the monotonic change sequence behind the delta-sync feed.
+ *
+ * Sequence numbers are handed out at flush time but only become visible once their transaction
+ * commits, so a reader could otherwise observe seq N+1 before seq N and move its cursor past N
+ * forever. Numbers issued inside a transaction are tracked until that transaction completes and
+ * {@link #visibleUpperBound()} stops just below the oldest one still in flight.
+ */
+@Component
+public class ChangeSequencer {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    // Makes "increment + register in flight" atomic with respect to readers of the high-water mark
+    private final ReentrantLock issueLock = new ReentrantLock();
+
+    /**
+     * Issue the next change sequence number
+     * @return a sequence number greater than every number issued before
+     */
+    public long next() {
+        boolean transactional = TransactionSynchronizationManager.isSynchronizationActive();
+        long seq;
+        issueLock.lock();
+        try {
+            seq = sequence.incrementAndGet();
+            if (transactional) {
+                inFlight.add(seq);
+            }
+        } finally {
+            issueLock.unlock();
+        }
+        if (transactional) {
+            currentTransactionSequences().add(seq);
+        }
+        return seq;
+    }
+
+    /**
+     * Highest sequence number below which every change is committed (or belongs to the caller's own transaction)
+     * @return the upper bound a delta-sync reader may safely advance its cursor to
+     */
+    public long visibleUpperBound() {
+        long highWaterMark;
+        issueLock.lock();
+        try {
+            highWaterMark = sequence.get();
+        } finally {
+            issueLock.unlock();
+        }
+        TransactionSequences own = TransactionSynchronizationManager.isSynchronizationActive()
+                ? (TransactionSequences) TransactionSynchronizationManager.getResource(this)
+                : null;
+        for (Long seq : inFlight) {
+            if (seq > highWaterMark) {
+                break;
+            }
+            if (own == null || !own.contains(seq)) {
+                return seq - 1;
+            }
+        }
+        return highWaterMark;
+    }
+
+    /**
+     * Make sure future sequence numbers are greater than the given value
+     * @param floor highest sequence number already stored
+     */
+    public void advanceTo(long floor) {
+        sequence.accumulateAndGet(floor, Math::max);
+    }
+
+    private TransactionSequences currentTransactionSequences() {
+        TransactionSequences sequences = (TransactionSequences) TransactionSynchronizationManager.getResource(this);
+        if (sequences == null) {
+            sequences = new TransactionSequences();
+            TransactionSynchronizationManager.bindResource(this, sequences);
+            TransactionSynchronizationManager.registerSynchronization(sequences);
+        }
+        return sequences;
+    }
+
+    /**
+     * Sequence numbers issued within one transaction, released when it commits or rolls back
+     */
+    private final class TransactionSequences implements TransactionSynchronization {
+
+        private final List<Long> issued = new ArrayList<>(4);
+
+        void add(long seq) {
+            issued.add(seq);
+        }
+
+        boolean contains(long seq) {
+            return issued.contains(seq);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            inFlight.removeAll(issued);
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequencer.this);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.restacademy.service;
+
+import com.restacademy.dto.ExportJobStatus;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one background user export; updated by the export worker, read by status and download requests
+ */
+public class ExportJob extends BackgroundJob {
+
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        CSV("text/csv", ".csv"),
+        COLUMNAR("application/octet-stream", ".ucol");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+    }
+
+    private final Format format;
+    private final boolean gzip;
+    private final Path file;
+
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    private volatile long sizeBytes;
+
+    public ExportJob(String id, Format format, boolean gzip, Path directory) {
+        super(id);
+        this.format = format;
+        this.gzip = gzip;
+        this.file = directory.resolve(getFileName());
+    }
+
+    @Override
+    protected List<Path> files() {
+        return List.of(file);
+    }
+
+    void markCompleted(long size) {
+        sizeBytes = size;
+        markCompleted();
+    }
+
+    void rowWritten() {
+        rowsWritten.incrementAndGet();
+    }
+
+    public ExportJobStatus toStatus() {
+        String downloadUrl = getState() == State.COMPLETED ? "/api/v1/users/export/" + getId() + "/download" : null;
+        return new ExportJobStatus(getId(), format.name(), gzip, getState().name(), rowsWritten.get(), sizeBytes,
+            rowsPerSecond(rowsWritten.get()), downloadUrl, getCreatedAt(), getStartedAt(), getFinishedAt(),
+            getMessage());
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String getFileName() {
+        return "users-" + getId() + format.extension + (gzip ? ".gz" : "");
+    }
+
+    public String getContentType() {
+        return gzip ? "application/gzip" : format.contentType;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+}
@@ -0,0 +1,71 @@
+package com.restacademy.service;
+
+import com.restacademy.dto.ImportJobStatus;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one background user import; updated by the import worker, read by status requests
+ */
+public class ImportJob extends BackgroundJob {
+
+    /**
+     * Supported upload formats
+     */
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private final Format format;
+    private final Path upload;
+    private final Path errorReport;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ImportJob(String id, Format format, Path upload, Path errorReport) {
+        super(id);
+        this.format = format;
+        this.upload = upload;
+        this.errorReport = errorReport;
+    }
+
+    @Override
+    protected List<Path> files() {
+        return List.of(upload, errorReport);
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void rowsImported(long count) {
+        imported.addAndGet(count);
+    }
+
+    void rowRejected() {
+        rejected.incrementAndGet();
+    }
+
+    public ImportJobStatus toStatus() {
+        return new ImportJobStatus(getId(), format.name(), getState().name(), rowsRead.get(), imported.get(),
+            rejected.get(), rowsPerSecond(rowsRead.get()), getCreatedAt(), getStartedAt(), getFinishedAt(),
+            getMessage());
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public Path getUpload() {
+        return upload;
+    }
+
+    public Path getErrorReport() {
+        return errorReport;
+    }
+}
@@ -0,0 +1,70 @@
+package com.restacademy.service;
+
+import com.restacademy.exception.ResourceNotFoundException;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory registry of the background jobs of one kind. Keeps at most {@code retainedJobs} jobs: finished
+ * jobs are evicted together with their files as new ones are submitted, except while they are being downloaded.
+ */
+public class JobRegistry<J extends BackgroundJob> {
+
+    private final String kind;
+    private final int retainedJobs;
+    private final Map<String, J> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * @param kind name of the job kind in error messages, e.g. "Import"
+     * @param retainedJobs number of jobs kept before finished ones are evicted
+     */
+    public JobRegistry(String kind, int retainedJobs) {
+        this.kind = kind;
+        this.retainedJobs = retainedJobs;
+    }
+
+    /**
+     * Register a job and hand it to its (asynchronous) worker
+     * @throws TaskRejectedException if the job queue is full; the job and its files are discarded
+     */
+    public void submit(J job, Consumer<J> worker) throws IOException {
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        try {
+            worker.accept(job);
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            job.deleteFiles();
+            throw e;
+        }
+    }
+
+    /**
+     * Look up a job
+     * @throws ResourceNotFoundException if the job does not exist or has been evicted
+     */
+    public J get(String jobId) {
+        J job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException(kind + " job not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    private void evictFinishedJobs() throws IOException {
+        if (jobs.size() < retainedJobs) {
+            return;
+        }
+        Iterator<J> iterator = jobs.values().iterator();
+        while (jobs.size() >= retainedJobs && iterator.hasNext()) {
+            if (iterator.next().evict()) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.restacademy.service;
+
+import com.restacademy.dto.UserResponse;
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Dataloader-style batcher for single-id user lookups.
+ *
+ * Concurrent callers enqueue their id; whichever caller finds no batch in progress becomes the leader,
+ * optionally waits a short window for more ids to arrive, and resolves up to one batch of queued ids with
+ * one {@code IN} query on its own thread. It then hands leadership to the caller at the head of the queue,
+ * so ids arriving while a query runs are picked up by the next round and no caller resolves more than one
+ * batch for others per round it waits. Under load the number of queries tracks the number of rounds rather
+ * than the number of requests, and a lone caller pays no more than the configured window.
+ *
+ * A caller inside an active transaction is not batched: the leader's query runs in its own transaction,
+ * which would not see rows the caller wrote but has not committed yet.
+ */
+@Component
+public class UserBatchLoader {
+
+    private final UserRepository userRepository;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final ConcurrentLinkedQueue<PendingLookup> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean leaderActive = new AtomicBoolean();
+
+    @Autowired
+    public UserBatchLoader(UserRepository userRepository,
+                           @Value("${users.batch-loader.window-micros:0}") long windowMicros,
+                           @Value("${users.batch-loader.max-batch-size:100}") int maxBatchSize) {
+        this.userRepository = userRepository;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Resolve a user by id, sharing the query with concurrent callers
+     * @param id the user ID
+     * @return the user, or empty if it does not exist
+     */
+    public Optional<UserResponse> load(Long id) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return userRepository.findById(id).map(UserResponse::new);
+        }
+        PendingLookup lookup = new PendingLookup(id);
+        pending.add(lookup);
+        boolean interrupted = false;
+        while (!lookup.result.isDone()) {
+            if (leaderActive.compareAndSet(false, true)) {
+                lead();
+            } else {
+                // Woken up when the lookup is resolved or leadership is handed to this caller
+                LockSupport.park(this);
+                interrupted |= Thread.interrupted();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            return lookup.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void lead() {
+        try {
+            if (windowNanos > 0) {
+                LockSupport.parkNanos(windowNanos);
+            }
+            List<PendingLookup> batch = drainBatch();
+            if (!batch.isEmpty()) {
+                resolve(batch);
+            }
+        } finally {
+            leaderActive.set(false);
+        }
+        // Ids enqueued while this round ran are resolved by the oldest waiting caller
+        PendingLookup next = pending.peek();
+        if (next != null) {
+            LockSupport.unpark(next.thread);
+        }
+    }
+
+    private List<PendingLookup> drainBatch() {
+        List<PendingLookup> batch = new ArrayList<>();
+        PendingLookup lookup;
+        while (batch.size() < maxBatchSize && (lookup = pending.poll()) != null) {
+            batch.add(lookup);
+        }
+        return batch;
+    }
+
+    private void resolve(List<PendingLookup> batch) {
+        try {
+            Set<Long> ids = new LinkedHashSet<>(batch.size() * 2);
+            for (PendingLookup lookup : batch) {
+                ids.add(lookup.id);
+            }
+            Map<Long, UserResponse> found = new HashMap<>(ids.size() * 2);
+            for (User user : userRepository.findAllById(ids)) {
+                found.put(user.getId(), new UserResponse(user));
+            }
+            for (PendingLookup lookup : batch) {
+                lookup.result.complete(Optional.ofNullable(found.get(lookup.id)));
+            }
+        } catch (RuntimeException e) {
+            for (PendingLookup lookup : batch) {
+                lookup.result.completeExceptionally(e);
+            }
+        }
+        for (PendingLookup lookup : batch) {
+            if (lookup.thread != Thread.currentThread()) {
+                LockSupport.unpark(lookup.thread);
+            }
+        }
+    }
+
+    private static final class PendingLookup {
+
+        private final Long id;
+        private final Thread thread = Thread.currentThread();
+        private final CompletableFuture<Optional<UserResponse>> result = new CompletableFuture<>();
+
+        PendingLookup(Long id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.restacademy.service;
+
+import com.restacademy.dto.UserChange;
+import com.restacademy.dto.UserChangesResponse;
+import com.restacademy.model.User;
+import com.restacademy.model.UserTombstone;
+import com.restacademy.repository.UserRepository;
+import com.restacademy.repository.UserTombstoneRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta-sync feed over the users table.
+ * Upserts come from the users table and deletions from the tombstone table, both read through
+ * their change sequence index, so a sync costs O(changes) rather than O(table).
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserChangeService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final UserRepository userRepository;
+    private final UserTombstoneRepository userTombstoneRepository;
+    private final ChangeSequencer changeSequencer;
+
+    @Autowired
+    public UserChangeService(UserRepository userRepository, UserTombstoneRepository userTombstoneRepository,
+                             ChangeSequencer changeSequencer) {
+        this.userRepository = userRepository;
+        this.userTombstoneRepository = userTombstoneRepository;
+        this.changeSequencer = changeSequencer;
+    }
+
+    /**
+     * Continue the sequence after whatever is already stored before any writer runs
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void initializeSequence() {
+        changeSequencer.advanceTo(Math.max(userRepository.findMaxChangeSeq(), userTombstoneRepository.findMaxChangeSeq()));
+    }
+
+    /**
+     * Get the users created, updated or deleted after a cursor
+     * @param since change cursor returned by the previous call, 0 for a full sync
+     * @param limit maximum number of changes to return
+     * @return changes ordered by change sequence and the cursor to resume from
+     */
+    public UserChangesResponse getChangesSince(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative: " + since);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+
+        // Never hand out a window that still has uncommitted sequence numbers below its top
+        long upTo = changeSequencer.visibleUpperBound();
+        PageRequest window = PageRequest.of(0, limit + 1);
+        List<User> users = userRepository.findChangedBetween(since, upTo, window);
+        List<UserTombstone> tombstones = userTombstoneRepository.findChangedBetween(since, upTo, window);
+
+        // Merge the two sequence-ordered streams
+        List<UserChange> changes = new ArrayList<>(Math.min(limit, users.size() + tombstones.size()));
+        int u = 0;
+        int t = 0;
+        while (changes.size() < limit && (u < users.size() || t < tombstones.size())) {
+            if (t >= tombstones.size()
+                    || (u < users.size() && users.get(u).getChangeSeq() < tombstones.get(t).getChangeSeq())) {
+                changes.add(UserChange.upsert(users.get(u++)));
+            } else {
+                changes.add(UserChange.delete(tombstones.get(t++)));
+            }
+        }
+
+        boolean hasMore = u < users.size() || t < tombstones.size();
+        long nextCursor = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+        return new UserChangesResponse(changes, nextCursor, hasMore);
+    }
+}
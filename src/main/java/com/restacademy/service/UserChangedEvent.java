@@ -0,0 +1,54 @@
+package com.restacademy.service;
+
+import com.restacademy.dto.UserChange;
+import com.restacademy.model.User;
+import com.restacademy.model.UserTombstone;
+
+/**
+ * Application event published by {@link UserService} whenever a user is created, updated or deleted.
+ * Listeners that need the committed state should use {@code @TransactionalEventListener}.
+ */
+public class UserChangedEvent {
+
+    /**
+     * What happened to the user
+     */
+    public enum Kind {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Kind kind;
+    private final User user;
+    private final UserTombstone tombstone;
+
+    private UserChangedEvent(Kind kind, User user, UserTombstone tombstone) {
+        this.kind = kind;
+        this.user = user;
+        this.tombstone = tombstone;
+    }
+
+    public static UserChangedEvent created(User user) {
+        return new UserChangedEvent(Kind.CREATED, user, null);
+    }
+
+    public static UserChangedEvent updated(User user) {
+        return new UserChangedEvent(Kind.UPDATED, user, null);
+    }
+
+    public static UserChangedEvent deleted(UserTombstone tombstone) {
+        return new UserChangedEvent(Kind.DELETED, null, tombstone);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Build the feed entry for this change; only meaningful once the change sequence is assigned (after flush)
+     */
+    public UserChange toUserChange() {
+        return kind == Kind.DELETED ? UserChange.delete(tombstone) : UserChange.upsert(user);
+    }
+}
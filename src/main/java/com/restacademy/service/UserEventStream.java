@@ -0,0 +1,269 @@
+package com.restacademy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.restacademy.dto.UserChange;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live user change feed delivered over Server-Sent Events.
+ *
+ * Events are taken from {@link UserChangedEvent} after the publishing transaction commits, serialized
+ * once and fanned out to every subscriber. Each subscriber owns a bounded buffer drained by a small
+ * dispatch pool; a subscriber whose buffer overflows is disconnected rather than allowed to hold
+ * memory or slow everyone else down. The most recent events are kept in a ring buffer so a client
+ * reconnecting with {@code Last-Event-ID} resumes without gaps. Event ids are change sequence numbers,
+ * so a client that falls out of the ring can catch up through {@code /api/v1/users/changes?since=<id>}.
+ */
+@Service
+public class UserEventStream {
+
+    private static final Logger log = LoggerFactory.getLogger(UserEventStream.class);
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final ObjectWriter changeWriter;
+    private final long timeoutMillis;
+    private final int subscriberBufferSize;
+
+    private final StreamEvent[] ring;
+    private long ringCount;
+    // Guards the ring and the subscriber list so that replay and live delivery never overlap or miss
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService heartbeat;
+
+    @Autowired
+    public UserEventStream(ObjectMapper objectMapper,
+                           @Value("${users.stream.timeout-ms:1800000}") long timeoutMillis,
+                           @Value("${users.stream.replay-size:1024}") int replaySize,
+                           @Value("${users.stream.subscriber-buffer-size:256}") int subscriberBufferSize,
+                           @Value("${users.stream.dispatch-threads:4}") int dispatchThreads,
+                           @Value("${users.stream.heartbeat-seconds:20}") long heartbeatSeconds) {
+        this(objectMapper, timeoutMillis, replaySize, subscriberBufferSize, dispatchPool(dispatchThreads),
+            heartbeatSeconds);
+    }
+
+    UserEventStream(ObjectMapper objectMapper, long timeoutMillis, int replaySize, int subscriberBufferSize,
+                    ExecutorService dispatcher, long heartbeatSeconds) {
+        this.changeWriter = objectMapper.writerFor(UserChange.class);
+        this.timeoutMillis = timeoutMillis;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.ring = new StreamEvent[replaySize];
+        this.dispatcher = dispatcher;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    private static ExecutorService dispatchPool(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Open a new subscription
+     * @param lastEventId id of the last event the client received, or null for live events only
+     * @return the emitter streaming events to the client
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        lock.lock();
+        try {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replayAfter(lastEventId.trim(), subscriber);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        subscriber.scheduleDrain();
+        return emitter;
+    }
+
+    /**
+     * Publish a committed change to the ring buffer and all subscribers; a change published outside a
+     * transaction is delivered right away
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        UserChange change = event.toUserChange();
+        String data;
+        try {
+            data = changeWriter.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize user change {}", change.getSeq(), e);
+            return;
+        }
+        StreamEvent streamEvent = new StreamEvent(
+            Long.toString(change.getSeq()), event.getKind().name().toLowerCase(Locale.ROOT), data);
+
+        lock.lock();
+        try {
+            ring[(int) (ringCount % ring.length)] = streamEvent;
+            ringCount++;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(streamEvent);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of currently connected subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        dispatcher.shutdown();
+    }
+
+    // Must be called with the lock held
+    private void replayAfter(String lastEventId, Subscriber subscriber) {
+        long oldest = Math.max(0, ringCount - ring.length);
+        List<StreamEvent> missed = null;
+        for (long i = ringCount - 1; i >= oldest; i--) {
+            StreamEvent candidate = ring[(int) (i % ring.length)];
+            if (candidate.id().equals(lastEventId)) {
+                missed = new ArrayList<>((int) (ringCount - 1 - i));
+                for (long j = i + 1; j < ringCount; j++) {
+                    missed.add(ring[(int) (j % ring.length)]);
+                }
+                break;
+            }
+        }
+        if (missed == null || missed.size() > subscriberBufferSize) {
+            // Too far behind for the ring buffer: tell the client to catch up through the delta-sync API
+            long since = parseCursor(lastEventId);
+            subscriber.offer(new StreamEvent(Long.toString(since), RESYNC_EVENT, "{\"since\":" + since + "}"));
+            return;
+        }
+        for (StreamEvent event : missed) {
+            subscriber.offer(event);
+        }
+    }
+
+    private static long parseCursor(String eventId) {
+        try {
+            return Math.max(0, Long.parseLong(eventId));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(StreamEvent.HEARTBEAT);
+        }
+    }
+
+    /**
+     * Serialized event shared by all subscribers; {@link #HEARTBEAT} is sent as an SSE comment
+     */
+    private record StreamEvent(String id, String name, String data) {
+        static final StreamEvent HEARTBEAT = new StreamEvent(null, null, null);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<StreamEvent> buffer = new ArrayBlockingQueue<>(subscriberBufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(StreamEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                if (event != StreamEvent.HEARTBEAT) {
+                    log.warn("Disconnecting slow user stream subscriber after {} undelivered events", buffer.size());
+                    close();
+                    emitter.complete();
+                }
+                return;
+            }
+            scheduleDrain();
+        }
+
+        void scheduleDrain() {
+            if (!closed.get() && !buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                buffer.clear();
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                while (!closed.get() && (event = buffer.poll()) != null) {
+                    if (event == StreamEvent.HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event().id(event.id()).name(event.name()).data(event.data()));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter already completed
+                close();
+            } finally {
+                draining.set(false);
+            }
+            scheduleDrain();
+        }
+    }
+}
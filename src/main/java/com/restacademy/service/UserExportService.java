@@ -0,0 +1,149 @@
+package com.restacademy.service;
+
+import com.restacademy.dto.ExportJobStatus;
+import com.restacademy.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point for bulk user exports.
+ * Exports are written to a local file by {@link UserExportWorker} in the background and downloaded once complete,
+ * so large tables never have to be held in memory or serialized as JSON.
+ */
+@Service
+public class UserExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserExportService.class);
+
+    private final UserExportWorker userExportWorker;
+    private final Path workDirectory;
+    private final Path downloadLinks;
+    private final Duration downloadLinkGrace;
+    private final JobRegistry<ExportJob> jobs;
+    private final ScheduledExecutorService linkCleaner;
+
+    @Autowired
+    public UserExportService(UserExportWorker userExportWorker,
+                             @Value("${users.export.dir:${java.io.tmpdir}/restacademy-exports}") Path workDirectory,
+                             @Value("${users.export.retained-jobs:20}") int retainedJobs,
+                             @Value("${users.export.download-link-grace:1m}") Duration downloadLinkGrace)
+            throws IOException {
+        this.userExportWorker = userExportWorker;
+        this.workDirectory = Files.createDirectories(workDirectory);
+        this.downloadLinks = Files.createDirectories(workDirectory.resolve("downloads"));
+        this.downloadLinkGrace = downloadLinkGrace;
+        this.jobs = new JobRegistry<>("Export", retainedJobs);
+        this.linkCleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "export-link-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Links left behind by a previous run
+        try (var links = Files.list(downloadLinks)) {
+            links.forEach(this::deleteLink);
+        }
+    }
+
+    /**
+     * Queue an export of all users
+     * @param format file format
+     * @param gzip whether to gzip the file
+     * @return the initial status of the queued job
+     * @throws TaskRejectedException if the job queue is full
+     */
+    public ExportJobStatus startExport(ExportJob.Format format, boolean gzip) throws IOException {
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), format, gzip, workDirectory);
+        jobs.submit(job, userExportWorker::run);
+        return job.toStatus();
+    }
+
+    /**
+     * Get the progress of an export job
+     * @param jobId the job ID
+     * @return job status
+     */
+    public ExportJobStatus getStatus(String jobId) {
+        return jobs.get(jobId).toStatus();
+    }
+
+    /**
+     * Start downloading a completed export; the caller must call {@link ExportJob#endDownload()} once the
+     * file has been sent
+     * @param jobId the job ID
+     * @return the completed job, whose file is kept until the download ends
+     */
+    public ExportJob beginDownload(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job.getState() != BackgroundJob.State.COMPLETED || !job.beginDownload()) {
+            throw new ResourceNotFoundException("Export file is not available for export job: " + jobId);
+        }
+        if (!Files.exists(job.getFile())) {
+            job.endDownload();
+            throw new ResourceNotFoundException("Export file is not available for export job: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Hard-link the file of a download in progress, for the container to send after the request returns
+     * (Tomcat sendfile). The link keeps the data readable if the job is evicted before the container has opened
+     * the file; it is deleted after {@code users.export.download-link-grace}, once the container holds it open.
+     * @param job a job returned by {@link #beginDownload(String)}
+     * @return the link, or empty if the file system does not support hard links
+     */
+    public Optional<Path> linkForDownload(ExportJob job) {
+        Path link = downloadLinks.resolve(UUID.randomUUID() + "-" + job.getFileName());
+        try {
+            Files.createLink(link, job.getFile());
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Cannot hard-link {}, streaming the download instead: {}", job.getFile(), e.toString());
+            return Optional.empty();
+        }
+        scheduleDeletion(link);
+        return Optional.of(link);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        linkCleaner.shutdownNow();
+    }
+
+    private void scheduleDeletion(Path link) {
+        try {
+            linkCleaner.schedule(() -> {
+                if (!deleteLink(link)) {
+                    // Still open on a file system that does not allow deleting open files; retry later
+                    scheduleDeletion(link);
+                }
+            }, downloadLinkGrace.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the link is deleted on the next start
+        }
+    }
+
+    private boolean deleteLink(Path link) {
+        try {
+            Files.deleteIfExists(link);
+            return true;
+        } catch (IOException e) {
+            log.debug("Cannot delete download link {} yet: {}", link, e.toString());
+            return false;
+        }
+    }
+}
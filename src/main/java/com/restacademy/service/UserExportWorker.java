@@ -0,0 +1,110 @@
+package com.restacademy.service;
+
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import com.restacademy.service.export.ColumnarUserExportWriter;
+import com.restacademy.service.export.CsvUserExportWriter;
+import com.restacademy.service.export.UserExportWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Background part of the user export: scrolls the users table inside one read-only transaction and
+ * streams each row straight into the export file. Entities are detached as soon as they are written,
+ * so neither the persistence context nor the heap grows with the table.
+ */
+@Component
+public class UserExportWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(UserExportWorker.class);
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int rowGroupSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public UserExportWorker(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                            @Value("${users.export.row-group-size:8192}") int rowGroupSize) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    /**
+     * Run an export job to completion; a failed export leaves no partial file behind
+     */
+    @Async("jobExecutor")
+    public void run(ExportJob job) {
+        job.markRunning();
+        try (FileChannel file = FileChannel.open(job.getFile(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            GZIPOutputStream gzip = job.isGzip()
+                ? new GZIPOutputStream(Channels.newOutputStream(file), GZIP_BUFFER_SIZE)
+                : null;
+            WritableByteChannel target = gzip != null ? Channels.newChannel(gzip) : file;
+
+            UserExportWriter writer = job.getFormat() == ExportJob.Format.CSV
+                ? new CsvUserExportWriter(target)
+                : new ColumnarUserExportWriter(target, rowGroupSize);
+            readOnlyTransaction.executeWithoutResult(status -> writeAll(job, writer));
+            writer.finish();
+            if (gzip != null) {
+                gzip.finish();
+            }
+            job.markCompleted(file.size());
+            log.info("Export {} completed: {} rows, {} bytes", job.getId(), job.toStatus().getRowsWritten(), file.size());
+        } catch (IOException | RuntimeException e) {
+            Throwable cause = e instanceof UncheckedIOException ? e.getCause() : e;
+            log.error("Export {} failed", job.getId(), cause);
+            job.markFailed(cause.getMessage());
+            deleteQuietly(job);
+        }
+    }
+
+    private void writeAll(ExportJob job, UserExportWriter writer) {
+        try (Stream<User> users = userRepository.streamAllOrderedById()) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                writer.write(user);
+                entityManager.detach(user);
+                job.rowWritten();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(ExportJob job) {
+        try {
+            Files.deleteIfExists(job.getFile());
+        } catch (IOException e) {
+            log.warn("Could not delete partial export {}", job.getFile(), e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.restacademy.service;
+
+import com.restacademy.dto.ImportJobStatus;
+import com.restacademy.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Entry point for bulk user imports.
+ * The upload is spooled to a temporary file as it streams in (never buffered in the heap) so the request
+ * can return immediately; {@link UserImportWorker} then processes the file in the background.
+ */
+@Service
+public class UserImportService {
+
+    private final UserImportWorker userImportWorker;
+    private final Path workDirectory;
+    private final JobRegistry<ImportJob> jobs;
+
+    @Autowired
+    public UserImportService(UserImportWorker userImportWorker,
+                             @Value("${users.import.dir:${java.io.tmpdir}/restacademy-imports}") Path workDirectory,
+                             @Value("${users.import.retained-jobs:50}") int retainedJobs) throws IOException {
+        this.userImportWorker = userImportWorker;
+        this.workDirectory = Files.createDirectories(workDirectory);
+        this.jobs = new JobRegistry<>("Import", retainedJobs);
+    }
+
+    /**
+     * Spool an upload and queue it for import
+     * @param body the request body stream
+     * @param format format of the upload
+     * @return the initial status of the queued job
+     * @throws TaskRejectedException if the job queue is full; the upload is discarded
+     */
+    public ImportJobStatus startImport(InputStream body, ImportJob.Format format) throws IOException {
+        String jobId = UUID.randomUUID().toString();
+        Path upload = workDirectory.resolve(jobId + ".upload");
+        Files.copy(body, upload, StandardCopyOption.REPLACE_EXISTING);
+
+        ImportJob job = new ImportJob(jobId, format, upload, workDirectory.resolve(jobId + "-errors.csv"));
+        jobs.submit(job, userImportWorker::run);
+        return job.toStatus();
+    }
+
+    /**
+     * Get the progress of an import job
+     * @param jobId the job ID
+     * @return job status
+     */
+    public ImportJobStatus getStatus(String jobId) {
+        return jobs.get(jobId).toStatus();
+    }
+
+    /**
+     * Start downloading the error report of a finished import job; the caller must call
+     * {@link ImportJob#endDownload()} once the report has been read
+     * @param jobId the job ID
+     * @return the job, whose error report is kept until the download ends
+     */
+    public ImportJob beginErrorReportDownload(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (!job.isFinished() || !job.beginDownload()) {
+            throw new ResourceNotFoundException("Error report is not available yet for import job: " + jobId);
+        }
+        if (!Files.exists(job.getErrorReport())) {
+            job.endDownload();
+            throw new ResourceNotFoundException("Error report is not available yet for import job: " + jobId);
+        }
+        return job;
+    }
+}
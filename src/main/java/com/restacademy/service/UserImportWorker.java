@@ -0,0 +1,271 @@
+package com.restacademy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import com.restacademy.service.csv.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Background part of the user import: parses the spooled upload one row at a time, validates each row
+ * against the {@link UserCreateRequest} constraints and commits valid rows in chunks. Each chunk costs
+ * one email lookup and batched inserts, after which the persistence context is cleared so memory
+ * stays flat regardless of file size.
+ */
+@Component
+public class UserImportWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(UserImportWorker.class);
+
+    static final List<String> CSV_COLUMNS = List.of("firstName", "lastName", "email", "age", "department");
+
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public UserImportWorker(UserRepository userRepository, Validator validator, ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${users.import.chunk-size:1000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(UserCreateRequest.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Run an import job to completion; the spooled upload is deleted afterwards
+     */
+    @Async("jobExecutor")
+    public void run(ImportJob job) {
+        job.markRunning();
+        try (BufferedReader reader = Files.newBufferedReader(job.getUpload(), StandardCharsets.UTF_8);
+             BufferedWriter errors = Files.newBufferedWriter(job.getErrorReport(), StandardCharsets.UTF_8)) {
+            errors.write("line,email,error\n");
+            RowSource rows = job.getFormat() == ImportJob.Format.CSV ? csvRows(reader) : ndjsonRows(reader);
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            ImportRow row;
+            while ((row = rows.next()) != null) {
+                job.rowRead();
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if (error != null) {
+                    reject(job, errors, row, error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    commitChunk(job, errors, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(job, errors, chunk);
+            }
+            job.markCompleted();
+            log.info("Import {} completed: {}", job.getId(), job.toStatus().getImported());
+        } catch (IOException | RuntimeException e) {
+            log.error("Import {} failed", job.getId(), e);
+            job.markFailed(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(job.getUpload());
+            } catch (IOException e) {
+                log.warn("Could not delete import upload {}", job.getUpload(), e);
+            }
+        }
+    }
+
+    private void commitChunk(ImportJob job, BufferedWriter errors, List<ImportRow> chunk) throws IOException {
+        List<ImportRow> duplicates = new ArrayList<>();
+        Integer persisted;
+        try {
+            persisted = transactionTemplate.execute(status -> {
+                Set<String> emails = new HashSet<>(chunk.size() * 2);
+                for (ImportRow row : chunk) {
+                    emails.add(row.request().getEmail());
+                }
+                Set<String> taken = new HashSet<>(userRepository.findExistingEmails(emails));
+
+                entityManager.unwrap(Session.class).setJdbcBatchSize(Math.min(chunkSize, 500));
+                int count = 0;
+                for (ImportRow row : chunk) {
+                    UserCreateRequest request = row.request();
+                    if (!taken.add(request.getEmail())) {
+                        duplicates.add(row);
+                        continue;
+                    }
+                    entityManager.persist(new User(
+                        request.getFirstName(),
+                        request.getLastName(),
+                        request.getEmail(),
+                        request.getAge(),
+                        request.getDepartment()
+                    ));
+                    count++;
+                }
+                // Flushing through the repository translates a unique-key conflict to DataIntegrityViolationException
+                userRepository.flush();
+                entityManager.clear();
+                return count;
+            });
+        } catch (DataAccessException e) {
+            // Typically a concurrent writer claimed one of the emails; the whole chunk was rolled back
+            for (ImportRow row : chunk) {
+                reject(job, errors, row, "Chunk rolled back: " + e.getMostSpecificCause().getMessage());
+            }
+            return;
+        }
+        for (ImportRow row : duplicates) {
+            reject(job, errors, row, "Email already exists: " + row.request().getEmail());
+        }
+        job.rowsImported(persisted != null ? persisted : 0);
+    }
+
+    private String validate(UserCreateRequest request) {
+        if (request == null) {
+            return "Row is empty";
+        }
+        Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private static void reject(ImportJob job, BufferedWriter errors, ImportRow row, String error) throws IOException {
+        job.rowRejected();
+        String email = row.request() != null ? row.request().getEmail() : null;
+        errors.write(row.line() + "," + csv(email) + "," + csv(error) + "\n");
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private RowSource csvRows(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return () -> null;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // Strip a UTF-8 byte order mark left by spreadsheet exports
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.put(name, i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!column.equals("department") && !columns.containsKey(column.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("CSV header is missing column '" + column + "'");
+            }
+        }
+        int firstName = columns.get("firstname");
+        int lastName = columns.get("lastname");
+        int email = columns.get("email");
+        int age = columns.get("age");
+        int department = columns.getOrDefault("department", -1);
+
+        return () -> {
+            List<String> record;
+            do {
+                record = csv.next();
+            } while (record != null && record.size() == 1 && record.get(0).isBlank());
+            if (record == null) {
+                return null;
+            }
+            UserCreateRequest request = new UserCreateRequest(
+                field(record, firstName), field(record, lastName), field(record, email), null,
+                department >= 0 ? field(record, department) : null);
+            String ageValue = field(record, age);
+            if (ageValue != null) {
+                try {
+                    request.setAge(Integer.valueOf(ageValue));
+                } catch (NumberFormatException e) {
+                    return new ImportRow(csv.getLineNumber(), request, "age: must be a number");
+                }
+            }
+            return new ImportRow(csv.getLineNumber(), request, null);
+        };
+    }
+
+    private static String field(List<String> record, int index) {
+        if (index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private RowSource ndjsonRows(BufferedReader reader) {
+        long[] lineNumber = {0};
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber[0]++;
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            try {
+                return new ImportRow(lineNumber[0], requestReader.readValue(line), null);
+            } catch (JsonProcessingException e) {
+                return new ImportRow(lineNumber[0], null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    /**
+     * One parsed row of the upload; {@code error} is set when the row could not be parsed
+     */
+    private record ImportRow(long line, UserCreateRequest request, String error) {
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        ImportRow next() throws IOException;
+    }
+}
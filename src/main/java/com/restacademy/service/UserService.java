@@ -2,36 +2,65 @@ package com.restacademy.service;
 
 import com.restacademy.dto.RegisterRequest;
 import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.dto.UserLookupResponse;
 import com.restacademy.dto.UserResponse;
 import com.restacademy.dto.UserUpdateRequest;
 import com.restacademy.model.User;
+import com.restacademy.model.UserTombstone;
 import com.restacademy.repository.UserRepository;
+import com.restacademy.repository.UserTombstoneRepository;
 import com.restacademy.exception.ResourceNotFoundException;
 import com.restacademy.exception.DuplicateResourceException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "users.service", description = "UserService operations", histogram = true)
 public class UserService implements UserDetailsService {
 
+    public static final int MAX_LOOKUP_IDS = 500;
+
     private final UserRepository userRepository;
+    private final UserTombstoneRepository userTombstoneRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserBatchLoader userBatchLoader;
+    private final Counter emailConflicts;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, UserTombstoneRepository userTombstoneRepository,
+                       PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher,
+                       UserBatchLoader userBatchLoader, MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.userTombstoneRepository = userTombstoneRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.userBatchLoader = userBatchLoader;
+        this.emailConflicts = Counter.builder("users.email.conflicts")
+            .description("Create, register or update requests rejected because the email is taken")
+            .register(meterRegistry);
     }
 
     /**
@@ -51,7 +80,7 @@ public class UserService implements UserDetailsService {
     public UserResponse registerUser(RegisterRequest registerRequest) {
         // Check if email already exists
         if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new DuplicateResourceException("Email already exists: " + registerRequest.getEmail());
+            throw emailConflict(registerRequest.getEmail());
         }
 
         User user = new User(
@@ -64,6 +93,7 @@ public class UserService implements UserDetailsService {
         );
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
         return new UserResponse(savedUser);
     }
 
@@ -75,7 +105,7 @@ public class UserService implements UserDetailsService {
     public UserResponse createUser(UserCreateRequest userCreateRequest) {
         // Check if email already exists
         if (userRepository.existsByEmail(userCreateRequest.getEmail())) {
-            throw new DuplicateResourceException("Email already exists: " + userCreateRequest.getEmail());
+            throw emailConflict(userCreateRequest.getEmail());
         }
 
         User user = new User(
@@ -87,6 +117,7 @@ public class UserService implements UserDetailsService {
         );
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
         return new UserResponse(savedUser);
     }
 
@@ -95,11 +126,41 @@ public class UserService implements UserDetailsService {
      * @param id the user ID
      * @return user response
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public UserResponse getUserById(Long id) {
-        User user = userRepository.findById(id)
+        // Concurrent single-id lookups outside a caller's transaction are merged into one IN query
+        return userBatchLoader.load(id)
             .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
-        return new UserResponse(user);
+    }
+
+    /**
+     * Get several users by ID with a single query
+     * @param ids the user IDs, duplicates are ignored
+     * @return found users in request order and the ids that do not exist
+     */
+    @Transactional(readOnly = true)
+    public UserLookupResponse getUsersByIds(List<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > MAX_LOOKUP_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_LOOKUP_IDS + " ids can be looked up at once");
+        }
+
+        Map<Long, User> found = new HashMap<>(uniqueIds.size() * 2);
+        for (User user : userRepository.findAllById(uniqueIds)) {
+            found.put(user.getId(), user);
+        }
+
+        List<UserResponse> users = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            User user = found.get(id);
+            if (user != null) {
+                users.add(new UserResponse(user));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new UserLookupResponse(users, missingIds);
     }
 
     /**
@@ -113,6 +174,23 @@ public class UserService implements UserDetailsService {
         return users.map(UserResponse::new);
     }
 
+    /**
+     * Get all users with pagination, loading only the requested fields
+     * @param fields comma-separated {@link UserResponse} properties
+     * @param pageable pagination information; may only sort by requested fields
+     * @return page of rows containing only the requested properties
+     */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllUsers(String fields, Pageable pageable) {
+        List<String> selected = parseFields(fields);
+        for (Sort.Order order : pageable.getSort()) {
+            if (!UserResponse.FIELDS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Unknown sort field '" + order.getProperty() + "'");
+            }
+        }
+        return userRepository.findAllProjected(selected, pageable);
+    }
+
     /**
      * Get all users without pagination
      * @return list of all user responses
@@ -138,7 +216,7 @@ public class UserService implements UserDetailsService {
         // Check if email is being changed and if it already exists
         if (!existingUser.getEmail().equals(userUpdateRequest.getEmail()) &&
             userRepository.existsByEmail(userUpdateRequest.getEmail())) {
-            throw new DuplicateResourceException("Email already exists: " + userUpdateRequest.getEmail());
+            throw emailConflict(userUpdateRequest.getEmail());
         }
 
         existingUser.setFirstName(userUpdateRequest.getFirstName());
@@ -148,18 +226,20 @@ public class UserService implements UserDetailsService {
         existingUser.setDepartment(userUpdateRequest.getDepartment());
 
         User updatedUser = userRepository.save(existingUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(updatedUser));
         return new UserResponse(updatedUser);
     }
 
     /**
-     * Delete user by ID
+     * Delete user by ID and leave a tombstone for the delta-sync feed
      * @param id the user ID
      */
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        userRepository.delete(user);
+        UserTombstone tombstone = userTombstoneRepository.save(new UserTombstone(user.getId()));
+        eventPublisher.publishEvent(UserChangedEvent.deleted(tombstone));
     }
 
     /**
@@ -175,6 +255,17 @@ public class UserService implements UserDetailsService {
                    .collect(Collectors.toList());
     }
 
+    /**
+     * Get users by department, loading only the requested fields
+     * @param department the department name
+     * @param fields comma-separated {@link UserResponse} properties
+     * @return rows containing only the requested properties
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getUsersByDepartment(String department, String fields) {
+        return userRepository.findByDepartmentProjected(department, parseFields(fields));
+    }
+
     /**
      * Get users by age range
      * @param minAge minimum age
@@ -202,6 +293,17 @@ public class UserService implements UserDetailsService {
                    .collect(Collectors.toList());
     }
 
+    /**
+     * Search users by first name, loading only the requested fields
+     * @param firstName the first name pattern
+     * @param fields comma-separated {@link UserResponse} properties
+     * @return rows containing only the requested properties
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchUsersByFirstName(String firstName, String fields) {
+        return userRepository.findByFirstNameContainingProjected(firstName, parseFields(fields));
+    }
+
     /**
      * Get user count by department
      * @param department the department name
@@ -211,4 +313,33 @@ public class UserService implements UserDetailsService {
     public long getUserCountByDepartment(String department) {
         return userRepository.countByDepartment(department);
     }
+
+    private DuplicateResourceException emailConflict(String email) {
+        emailConflicts.increment();
+        return new DuplicateResourceException("Email already exists: " + email);
+    }
+
+    /**
+     * Parse and validate a sparse fieldset against the {@link UserResponse} properties
+     * @param fields comma-separated property names
+     * @return distinct property names in request order
+     */
+    private static List<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!UserResponse.FIELDS.contains(name)) {
+                throw new IllegalArgumentException(
+                    "Unknown field '" + name + "'; allowed fields are " + String.join(",", UserResponse.FIELDS));
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        return new ArrayList<>(selected);
+    }
 }
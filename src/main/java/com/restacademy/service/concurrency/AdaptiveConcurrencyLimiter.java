@@ -0,0 +1,155 @@
+package com.restacademy.service.concurrency;
+
+import com.restacademy.config.ConcurrencyLimitProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive limit on concurrently executing requests (gradient algorithm).
+ *
+ * Each sample window compares the window's average latency with a slowly moving long-term baseline. While
+ * latency stays within {@code tolerance} of the baseline the limit grows by about {@code sqrt(limit)};
+ * when requests start queueing somewhere (a slow H2 query, a saturated pool) latency rises, the
+ * gradient (baseline / current latency, at least 0.5) drops below 1 and the limit moves toward
+ * {@code limit * gradient}. Changes are smoothed and clamped to {@code [min-limit, max-limit]}.
+ *
+ * Admission is a CAS on the in-flight counter; lower priorities may only use a share of the limit, so bulk
+ * work is shed first and critical requests last.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        CRITICAL, NORMAL, BULK
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final int longWindowSamples;
+    private final double normalShare;
+    private final double bulkShare;
+    private final LongSupplier clock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicLong windowStart;
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile double limit;
+    private double longLatencyNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, LongSupplier clock) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.smoothing = properties.getSmoothing();
+        this.tolerance = properties.getTolerance();
+        this.windowNanos = properties.getWindow().toNanos();
+        this.minWindowSamples = properties.getMinWindowSamples();
+        this.longWindowSamples = properties.getLongWindowSamples();
+        this.normalShare = properties.getNormalShare();
+        this.bulkShare = properties.getBulkShare();
+        this.clock = clock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+        this.windowStart = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Try to start a request of the given priority
+     * @return the start time to pass to {@link #release}, or -1 if the request must be shed
+     */
+    public long tryAcquire(Priority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return clock.getAsLong();
+            }
+        }
+    }
+
+    /**
+     * Finish a request started with {@link #tryAcquire}
+     * @param startNanos value returned by {@code tryAcquire}
+     * @param sample whether the latency is representative (false for async requests and failures)
+     */
+    public void release(long startNanos, boolean sample) {
+        inFlight.decrementAndGet();
+        long now = clock.getAsLong();
+        if (sample) {
+            windowLatencyNanos.add(now - startNanos);
+            windowSamples.increment();
+        }
+        if (now - windowStart.get() >= windowNanos && updateLock.tryLock()) {
+            try {
+                updateLimit(now);
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private int allowed(Priority priority) {
+        double share = switch (priority) {
+            case CRITICAL -> 1.0;
+            case NORMAL -> normalShare;
+            case BULK -> bulkShare;
+        };
+        return Math.max(1, (int) (limit * share));
+    }
+
+    // Called by one thread at a time, at most once per window
+    private void updateLimit(long now) {
+        if (windowSamples.sum() < minWindowSamples) {
+            return;
+        }
+        long samples = windowSamples.sumThenReset();
+        double shortLatency = (double) windowLatencyNanos.sumThenReset() / samples;
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        windowStart.set(now);
+
+        if (longLatencyNanos == 0) {
+            longLatencyNanos = shortLatency;
+        } else {
+            longLatencyNanos += (shortLatency - longLatencyNanos) / longWindowSamples;
+            // After a sustained slowdown the baseline has drifted up; let it recover faster
+            if (longLatencyNanos / shortLatency > 2) {
+                longLatencyNanos *= 0.95;
+            }
+        }
+
+        double current = limit;
+        // Growing the limit is pointless unless demand actually reached it
+        if (maxInFlight < current / 2 && shortLatency <= longLatencyNanos * tolerance) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatencyNanos / shortLatency));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,82 @@
+package com.restacademy.service.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 CSV reader: one record at a time, quoted fields may contain commas,
+ * doubled quotes and line breaks. Only the current record is held in memory.
+ */
+public class CsvReader {
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder(64);
+    private long lineNumber;
+
+    public CsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Line number on which the last returned record ended (1-based)
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Read the next record
+     * @return the fields of the record, or null at end of input
+     * @throws IOException if reading fails or a quoted field is never closed
+     */
+    public List<String> next() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        long startLine = lineNumber;
+
+        List<String> fields = new ArrayList<>(8);
+        field.setLength(0);
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i >= line.length()) {
+                if (!quoted) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                // Quoted field continues on the next line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Unterminated quoted field starting on line " + startLine);
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.restacademy.service.csv;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Streaming RFC 4180 CSV writer: fields are quoted only when they contain a comma, quote or line break.
+ * Null fields are written as empty fields.
+ */
+public class CsvWriter {
+
+    private final Writer writer;
+    private boolean firstField = true;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Append a field to the current record
+     */
+    public CsvWriter field(String value) throws IOException {
+        if (!firstField) {
+            writer.write(',');
+        }
+        firstField = false;
+        if (value == null || value.isEmpty()) {
+            return this;
+        }
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return this;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+        return this;
+    }
+
+    /**
+     * Append a numeric field to the current record
+     */
+    public CsvWriter field(long value) throws IOException {
+        return field(Long.toString(value));
+    }
+
+    /**
+     * Terminate the current record
+     */
+    public void endRecord() throws IOException {
+        writer.write('\n');
+        firstField = true;
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,254 @@
+package com.restacademy.service.export;
+
+import com.restacademy.model.User;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes users in a compact, Parquet-style columnar binary format.
+ *
+ * Rows are buffered into row groups and each group is written column by column, so a reader only
+ * interested in a few columns can skip the others by their byte length. Layout:
+ * <pre>
+ * file      := "RAUSERS" version:u8 rowGroup* 0:varint totalRows:varint
+ * rowGroup  := rowCount:varint column{8}            (id, firstName, lastName, email, age,
+ * column    := byteLength:varint bytes               department, createdAt, updatedAt)
+ * </pre>
+ * Column encodings:
+ * <ul>
+ *   <li>id: zigzag varint delta from the previous id in the group</li>
+ *   <li>firstName, lastName, email: per value {@code length+1} varint (0 = null) followed by UTF-8 bytes</li>
+ *   <li>age: zigzag varint</li>
+ *   <li>department: dictionary of distinct values (count varint, then strings as above) followed by one
+ *       {@code index+1} varint per row (0 = null)</li>
+ *   <li>createdAt: epoch milliseconds (local time read as UTC), zigzag varint delta from the previous row</li>
+ *   <li>updatedAt: per row 0 for null, otherwise {@code zigzag(updatedAt - createdAt) + 1} varint</li>
+ * </ul>
+ */
+public class ColumnarUserExportWriter implements UserExportWriter {
+
+    static final byte[] MAGIC = "RAUSERS".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+
+    private final WritableByteChannel channel;
+    private final int rowGroupSize;
+
+    private final long[] ids;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] emails;
+    private final int[] ages;
+    private final String[] departments;
+    private final long[] createdAt;
+    private final long[] updatedAt;
+    private final boolean[] hasUpdatedAt;
+    private int rows;
+    private long totalRows;
+
+    private final ColumnBuffer column = new ColumnBuffer(64 * 1024);
+    private final ColumnBuffer frame = new ColumnBuffer(16);
+
+    public ColumnarUserExportWriter(WritableByteChannel channel, int rowGroupSize) throws IOException {
+        this.channel = channel;
+        this.rowGroupSize = rowGroupSize;
+        this.ids = new long[rowGroupSize];
+        this.firstNames = new String[rowGroupSize];
+        this.lastNames = new String[rowGroupSize];
+        this.emails = new String[rowGroupSize];
+        this.ages = new int[rowGroupSize];
+        this.departments = new String[rowGroupSize];
+        this.createdAt = new long[rowGroupSize];
+        this.updatedAt = new long[rowGroupSize];
+        this.hasUpdatedAt = new boolean[rowGroupSize];
+
+        frame.bytes(MAGIC);
+        frame.put(VERSION);
+        frame.writeTo(channel);
+    }
+
+    @Override
+    public void write(User user) throws IOException {
+        ids[rows] = user.getId();
+        firstNames[rows] = user.getFirstName();
+        lastNames[rows] = user.getLastName();
+        emails[rows] = user.getEmail();
+        ages[rows] = user.getAge() != null ? user.getAge() : 0;
+        departments[rows] = user.getDepartment();
+        createdAt[rows] = epochMillis(user.getCreatedAt());
+        hasUpdatedAt[rows] = user.getUpdatedAt() != null;
+        updatedAt[rows] = hasUpdatedAt[rows] ? epochMillis(user.getUpdatedAt()) : 0;
+        if (++rows == rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (rows > 0) {
+            flushRowGroup();
+        }
+        frame.varint(0);
+        frame.varint(totalRows);
+        frame.writeTo(channel);
+    }
+
+    private void flushRowGroup() throws IOException {
+        frame.varint(rows);
+        frame.writeTo(channel);
+
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            column.zigzag(ids[i] - previous);
+            previous = ids[i];
+        }
+        writeColumn();
+
+        writeStringColumn(firstNames);
+        writeStringColumn(lastNames);
+        writeStringColumn(emails);
+
+        for (int i = 0; i < rows; i++) {
+            column.zigzag(ages[i]);
+        }
+        writeColumn();
+
+        writeDictionaryColumn(departments);
+
+        previous = 0;
+        for (int i = 0; i < rows; i++) {
+            column.zigzag(createdAt[i] - previous);
+            previous = createdAt[i];
+        }
+        writeColumn();
+
+        for (int i = 0; i < rows; i++) {
+            column.varint(hasUpdatedAt[i] ? zigzag(updatedAt[i] - createdAt[i]) + 1 : 0);
+        }
+        writeColumn();
+
+        totalRows += rows;
+        rows = 0;
+        // Drop references so the previous group's strings can be collected
+        Arrays.fill(firstNames, null);
+        Arrays.fill(lastNames, null);
+        Arrays.fill(emails, null);
+        Arrays.fill(departments, null);
+    }
+
+    private void writeStringColumn(String[] values) throws IOException {
+        for (int i = 0; i < rows; i++) {
+            column.string(values[i]);
+        }
+        writeColumn();
+    }
+
+    private void writeDictionaryColumn(String[] values) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int[] indexes = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            if (values[i] != null) {
+                indexes[i] = dictionary.computeIfAbsent(values[i], value -> dictionary.size()) + 1;
+            }
+        }
+        String[] entries = new String[dictionary.size()];
+        dictionary.forEach((value, index) -> entries[index] = value);
+
+        column.varint(entries.length);
+        for (String entry : entries) {
+            column.string(entry);
+        }
+        for (int i = 0; i < rows; i++) {
+            column.varint(indexes[i]);
+        }
+        writeColumn();
+    }
+
+    // Frame the encoded column with its byte length so readers can skip it
+    private void writeColumn() throws IOException {
+        frame.varint(column.size());
+        frame.writeTo(channel);
+        column.writeTo(channel);
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Growable byte buffer with varint helpers; cleared after each write to the channel
+     */
+    private static final class ColumnBuffer {
+
+        private ByteBuffer buffer;
+
+        ColumnBuffer(int capacity) {
+            this.buffer = ByteBuffer.allocate(capacity);
+        }
+
+        int size() {
+            return buffer.position();
+        }
+
+        void put(int b) {
+            ensure(1);
+            buffer.put((byte) b);
+        }
+
+        void bytes(byte[] bytes) {
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void varint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void zigzag(long value) {
+            varint(ColumnarUserExportWriter.zigzag(value));
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(utf8.length + 1L);
+            bytes(utf8);
+        }
+
+        void writeTo(WritableByteChannel channel) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensure(int extra) {
+            if (buffer.remaining() < extra) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + extra));
+                buffer.flip();
+                grown.put(buffer);
+                buffer = grown;
+            }
+        }
+    }
+}
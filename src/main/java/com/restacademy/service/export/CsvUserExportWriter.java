@@ -0,0 +1,53 @@
+package com.restacademy.service.export;
+
+import com.restacademy.model.User;
+import com.restacademy.service.csv.CsvWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes users as CSV with a header row; timestamps use ISO-8601 local date-time
+ */
+public class CsvUserExportWriter implements UserExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedWriter writer;
+    private final CsvWriter csv;
+
+    public CsvUserExportWriter(WritableByteChannel channel) throws IOException {
+        this.writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.csv = new CsvWriter(writer);
+        csv.field("id").field("firstName").field("lastName").field("email").field("age")
+            .field("department").field("createdAt").field("updatedAt");
+        csv.endRecord();
+    }
+
+    @Override
+    public void write(User user) throws IOException {
+        csv.field(user.getId())
+            .field(user.getFirstName())
+            .field(user.getLastName())
+            .field(user.getEmail())
+            .field(user.getAge())
+            .field(user.getDepartment())
+            .field(format(user.getCreatedAt()))
+            .field(format(user.getUpdatedAt()));
+        csv.endRecord();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private static String format(LocalDateTime timestamp) {
+        return timestamp != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp) : null;
+    }
+}
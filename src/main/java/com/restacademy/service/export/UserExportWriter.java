@@ -0,0 +1,21 @@
+package com.restacademy.service.export;
+
+import com.restacademy.model.User;
+
+import java.io.IOException;
+
+/**
+ * Encodes a stream of users into an export file, one user at a time
+ */
+public interface UserExportWriter {
+
+    /**
+     * Append one user; implementations may buffer
+     */
+    void write(User user) throws IOException;
+
+    /**
+     * Write anything still buffered plus any trailer; the target channel is left open
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,25 @@
+package com.restacademy.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the authentication of one bearer token: parsing, the user lookup and validation
+ */
+@Name("com.restacademy.JwtValidation")
+@Label("JWT Validation")
+@Category({"RestAcademy", "Security"})
+@Description("Bearer token parsed, its user loaded and the token validated")
+@StackTrace(false)
+public class JwtValidationEvent extends jdk.jfr.Event {
+
+    @Label("Subject")
+    public String subject;
+
+    @Label("Outcome")
+    @Description("valid, invalid_token, expired_token or token_rejected")
+    public String outcome;
+}
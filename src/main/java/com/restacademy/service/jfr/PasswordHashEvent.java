@@ -0,0 +1,25 @@
+package com.restacademy.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a password hash computation (BCrypt)
+ */
+@Name("com.restacademy.PasswordHash")
+@Label("Password Hash")
+@Category({"RestAcademy", "Security"})
+@Description("Password encoded or checked against a stored hash")
+@StackTrace(false)
+public class PasswordHashEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("encode or matches")
+    public String operation;
+
+    @Label("Matched")
+    public boolean matched;
+}
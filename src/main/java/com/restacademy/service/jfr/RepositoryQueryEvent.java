@@ -0,0 +1,33 @@
+package com.restacademy.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a Spring Data repository call
+ */
+@Name("com.restacademy.RepositoryQuery")
+@Label("Repository Query")
+@Category({"RestAcademy", "Persistence"})
+@Description("Spring Data repository method call")
+@StackTrace(false)
+public class RepositoryQueryEvent extends jdk.jfr.Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Query")
+    @Description("Repository method name, e.g. findByDepartment")
+    public String query;
+
+    @Label("Rows")
+    @Description("Entities, projections or values returned; 1 for single results and counts")
+    public long rows;
+
+    @Label("Exception")
+    @Description("Simple class name of the exception thrown, if the call failed")
+    public String exception;
+}
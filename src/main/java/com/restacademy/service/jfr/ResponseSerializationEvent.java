@@ -0,0 +1,31 @@
+package com.restacademy.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning the write of an API response body, from the first access to the output stream until
+ * the filter chain returns. Emitted by the Server-Timing filter.
+ */
+@Name("com.restacademy.ResponseSerialization")
+@Label("Response Serialization")
+@Category({"RestAcademy", "Web"})
+@Description("API response body written")
+@StackTrace(false)
+public class ResponseSerializationEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Content Type")
+    public String contentType;
+}
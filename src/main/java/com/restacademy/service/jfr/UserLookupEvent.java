@@ -0,0 +1,29 @@
+package com.restacademy.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a read operation of {@code UserService}
+ */
+@Name("com.restacademy.UserLookup")
+@Label("User Lookup")
+@Category({"RestAcademy", "Service"})
+@Description("UserService read operation")
+@StackTrace(false)
+public class UserLookupEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Users")
+    @Description("Number of users returned")
+    public long users;
+
+    @Label("Exception")
+    @Description("Simple class name of the exception thrown, if the call failed")
+    public String exception;
+}
@@ -0,0 +1,145 @@
+package com.restacademy.service.querystats;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SQL statements executed by the current thread between {@link #start()} and {@link #stop()}.
+ *
+ * Filled by {@link QueryCountingDataSource}; one scope is opened per HTTP request. Scopes nest, an inner
+ * scope's statements also count towards the enclosing ones. Statements run on other threads (async jobs,
+ * a batched lookup led by another request) are not attributed to the request.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats parent;
+    private int statements;
+    private int selects;
+    private int inserts;
+    private int updates;
+    private int deletes;
+    private long nanos;
+    private final Map<String, Integer> executions = new HashMap<>();
+    private String mostRepeatedSql;
+    private int mostRepeatedCount;
+
+    private QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Start counting statements on the current thread
+     */
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stop counting; restores the enclosing scope, if any
+     */
+    public void stop() {
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Innermost scope open on the current thread, or null
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Whether the current thread is counting, so the data source can skip timing otherwise
+     */
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        for (QueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.add(sql, elapsedNanos);
+        }
+    }
+
+    private void add(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        switch (keyword(sql)) {
+            case "select", "with" -> selects++;
+            case "insert", "merge" -> inserts++;
+            case "update" -> updates++;
+            case "delete" -> deletes++;
+            default -> {
+            }
+        }
+        // Statement texts are Hibernate's prepared SQL, so the same query with other parameters repeats verbatim
+        int count = executions.merge(sql, 1, Integer::sum);
+        if (count > mostRepeatedCount) {
+            mostRepeatedCount = count;
+            mostRepeatedSql = sql;
+        }
+    }
+
+    private static String keyword(String sql) {
+        int start = 0;
+        while (start < sql.length() && !Character.isLetter(sql.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return sql.substring(start, end).toLowerCase(Locale.ROOT);
+    }
+
+    // Getters
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getSelects() {
+        return selects;
+    }
+
+    public int getInserts() {
+        return inserts;
+    }
+
+    public int getUpdates() {
+        return updates;
+    }
+
+    public int getDeletes() {
+        return deletes;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Statement executed most often in this scope, the usual sign of an N+1 query
+     */
+    public String getMostRepeatedSql() {
+        return mostRepeatedSql;
+    }
+
+    public int getMostRepeatedCount() {
+        return mostRepeatedCount;
+    }
+
+    @Override
+    public String toString() {
+        return statements + " statements (" + selects + " select, " + inserts + " insert, " + updates + " update, "
+            + deletes + " delete) in " + String.format(Locale.ROOT, "%.2f", nanos / 1e6) + " ms";
+    }
+}
@@ -0,0 +1,110 @@
+package com.restacademy.service.ratelimit;
+
+import com.restacademy.config.RateLimitProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by route and client, kept in a striped, size-bounded map.
+ *
+ * Keys are spread over a power-of-two number of stripes, each a {@link ConcurrentHashMap} with its own size
+ * bound and sweep clock, so eviction only ever scans one small stripe. Buckets that have been full for
+ * longer than the idle timeout are swept periodically and whenever a stripe is full. If a stripe is full of
+ * active buckets, the least recently used of a small sample is evicted.
+ */
+@Component
+public class RateLimiter {
+
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final Stripe[] stripes;
+    private final int maxBucketsPerStripe;
+    private final long idleNanos;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties) {
+        int stripeCount = 1;
+        while (stripeCount < properties.getStripes()) {
+            stripeCount <<= 1;
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxBucketsPerStripe = Math.max(1, properties.getMaxBuckets() / stripeCount);
+        this.idleNanos = properties.getIdleEviction().toNanos();
+    }
+
+    /**
+     * Take one token from the bucket of {@code key}, creating it with {@code limit} on first use
+     */
+    public TokenBucket.Decision tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long now = System.nanoTime();
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        stripe.sweepIfDue(now, idleNanos);
+
+        TokenBucket bucket = stripe.buckets.get(key);
+        if (bucket == null) {
+            if (stripe.buckets.size() >= maxBucketsPerStripe) {
+                stripe.makeRoom(now, idleNanos, maxBucketsPerStripe);
+            }
+            long periodNanos = limit.getPeriod().toNanos();
+            bucket = stripe.buckets.computeIfAbsent(key, k -> new TokenBucket(limit.getCapacity(), periodNanos, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * Number of buckets currently held
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweep = new AtomicLong(System.nanoTime());
+
+        void sweepIfDue(long now, long idleNanos) {
+            long due = nextSweep.get();
+            // One caller per interval wins the sweep; everyone else proceeds without waiting
+            if (now - due >= 0 && nextSweep.compareAndSet(due, now + Math.max(idleNanos, 1_000_000_000L))) {
+                buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            }
+        }
+
+        void makeRoom(long now, long idleNanos, int maxBuckets) {
+            buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            while (buckets.size() >= maxBuckets) {
+                String oldestKey = null;
+                long oldest = Long.MAX_VALUE;
+                Iterator<Map.Entry<String, TokenBucket>> entries = buckets.entrySet().iterator();
+                for (int i = 0; i < EVICTION_SAMPLE && entries.hasNext(); i++) {
+                    Map.Entry<String, TokenBucket> entry = entries.next();
+                    if (entry.getValue().theoreticalArrival() < oldest) {
+                        oldest = entry.getValue().theoreticalArrival();
+                        oldestKey = entry.getKey();
+                    }
+                }
+                if (oldestKey == null) {
+                    return;
+                }
+                buckets.remove(oldestKey);
+            }
+        }
+    }
+}
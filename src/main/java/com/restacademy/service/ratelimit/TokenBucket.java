@@ -0,0 +1,68 @@
+package com.restacademy.service.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding {@code capacity} tokens that refill evenly over {@code periodNanos}.
+ *
+ * The whole state is one {@code long}: the theoretical arrival time (GCRA) at which the bucket would be empty
+ * again, advanced by one emission interval per granted token with a compare-and-set. The bucket is full
+ * whenever that time is in the past, so an idle bucket needs no refill bookkeeping and can be evicted safely.
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long capacity, long periodNanos, long nowNanos) {
+        if (capacity <= 0 || periodNanos <= 0) {
+            throw new IllegalArgumentException("Capacity and period must be positive");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, periodNanos / capacity);
+        this.burstNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take one token if available
+     */
+    public Decision tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long start = Math.max(arrival, nowNanos);
+            long next = start + intervalNanos;
+            long backlog = next - nowNanos;
+            if (backlog > burstNanos) {
+                return new Decision(false, capacity, 0, start - nowNanos, backlog - burstNanos);
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return new Decision(true, capacity, (burstNanos - backlog) / intervalNanos, backlog, 0);
+            }
+        }
+    }
+
+    /**
+     * Whether the bucket has been full for longer than {@code idleNanos}
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - theoreticalArrival.get() > idleNanos;
+    }
+
+    long theoreticalArrival() {
+        return theoreticalArrival.get();
+    }
+
+    /**
+     * Outcome of an acquire attempt
+     * @param allowed whether a token was granted
+     * @param limit bucket capacity
+     * @param remaining tokens left after this request
+     * @param resetNanos time until the bucket is full again
+     * @param retryAfterNanos time until the next token is available (0 when allowed)
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,192 @@
+package com.restacademy.service.snapshot;
+
+import com.restacademy.service.ChangeSequencer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Snapshots of the users table for fast startup.
+ *
+ * A snapshot is a zip file of CSV parts of {@value #PART_ROWS} users each, written by H2's {@code CSVWRITE} in
+ * one repeatable-read transaction so the parts are consistent with each other. Each part is restored with one
+ * {@code INSERT ... DIRECT SELECT FROM CSVREAD} that streams rows straight out of the zip (H2's {@code zip:}
+ * file system) into the table, without JPA; restoring part by part keeps each transaction, and the memory it
+ * holds until commit, small. A {@value #MANIFEST} entry records the highest id and change sequence number, so a
+ * restore moves both sequences past the snapshot before loading it and writes made meanwhile cannot collide
+ * with restored rows. Tombstones are not part of a snapshot, so delta-sync clients must start over after a
+ * restore.
+ */
+@Service
+public class UserSnapshotService {
+
+    static final int PART_ROWS = 100_000;
+    private static final String COLUMNS = "id, first_name, last_name, email, age, department, password, "
+        + "created_at, updated_at, change_seq";
+    private static final String CSV_OPTIONS = "charset=UTF-8 null=\\N";
+    static final String MANIFEST = "manifest.properties";
+    private static final String PART_PREFIX = "users-";
+    // Matches the allocation size of the users_seq generator on User
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeSequencer changeSequencer;
+    private final TransactionTemplate snapshotTransaction;
+
+    @Autowired
+    public UserSnapshotService(JdbcTemplate jdbcTemplate, ChangeSequencer changeSequencer,
+                               PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeSequencer = changeSequencer;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Write all users to a snapshot file, replacing it atomically
+     * @return the number of users written
+     */
+    public long dump(Path file) throws IOException {
+        Path target = file.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path zip = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            long rows;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(zip), 64 * 1024);
+                 ZipOutputStream zipOut = new ZipOutputStream(out)) {
+                // Restore speed matters more than the last few percent of size
+                zipOut.setLevel(Deflater.BEST_SPEED);
+                rows = snapshotTransaction.execute(status -> writeParts(zipOut, target));
+            }
+            Files.move(zip, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return rows;
+        } finally {
+            Files.deleteIfExists(zip);
+        }
+    }
+
+    private long writeParts(ZipOutputStream zipOut, Path target) {
+        Path csv = target.resolveSibling(target.getFileName() + ".csv.tmp");
+        try {
+            long rows = 0;
+            long afterId = 0;
+            for (int part = 0; ; part++) {
+                String select = "SELECT " + COLUMNS + " FROM users WHERE id > " + afterId
+                    + " ORDER BY id LIMIT " + PART_ROWS;
+                Integer written = jdbcTemplate.queryForObject("CALL CSVWRITE(?, ?, ?)", Integer.class,
+                    csv.toString(), select, CSV_OPTIONS);
+                if (written == null || written == 0) {
+                    writeManifest(zipOut, rows);
+                    return rows;
+                }
+                zipOut.putNextEntry(new ZipEntry(String.format(PART_PREFIX + "%05d.csv", part)));
+                Files.copy(csv, zipOut);
+                zipOut.closeEntry();
+                rows += written;
+                afterId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM (SELECT id FROM users WHERE id > "
+                    + afterId + " ORDER BY id LIMIT " + PART_ROWS + ")", Long.class);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                Files.deleteIfExists(csv);
+            } catch (IOException ignored) {
+                // Left behind in the snapshot directory; overwritten by the next dump
+            }
+        }
+    }
+
+    private void writeManifest(ZipOutputStream zipOut, long rows) throws IOException {
+        Properties manifest = new Properties();
+        manifest.setProperty("users", Long.toString(rows));
+        manifest.setProperty("max-id", Long.toString(
+            jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class)));
+        manifest.setProperty("max-change-seq", Long.toString(
+            jdbcTemplate.queryForObject("SELECT COALESCE(MAX(change_seq), 0) FROM users", Long.class)));
+        zipOut.putNextEntry(new ZipEntry(MANIFEST));
+        manifest.store(zipOut, null);
+        zipOut.closeEntry();
+    }
+
+    /**
+     * Move the id and change sequences past a snapshot's rows, then load it into the (empty) users table
+     * @return the number of users restored
+     */
+    public long restore(Path file) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("Cannot restore a snapshot into a users table holding " + existing + " rows");
+        }
+        Properties manifest = manifest(file);
+        long maxId = Long.parseLong(manifest.getProperty("max-id"));
+        jdbcTemplate.execute("ALTER SEQUENCE users_seq RESTART WITH " + (maxId + ID_ALLOCATION_SIZE + 1));
+        changeSequencer.advanceTo(Long.parseLong(manifest.getProperty("max-change-seq")));
+
+        long rows = 0;
+        for (String part : parts(file)) {
+            String source = "zip:" + file.toAbsolutePath() + "!/" + part;
+            // CSVREAD opens the file while the statement is prepared, so its arguments cannot be bind parameters
+            rows += jdbcTemplate.update("INSERT INTO users (" + COLUMNS + ") DIRECT SELECT * FROM CSVREAD("
+                + literal(source) + ", NULL, " + literal(CSV_OPTIONS) + ")");
+        }
+        return rows;
+    }
+
+    private static Properties manifest(Path file) {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry entry = zip.getEntry(MANIFEST);
+            if (entry == null) {
+                throw new IllegalStateException("Snapshot " + file + " has no " + MANIFEST + "; dump it again");
+            }
+            Properties manifest = new Properties();
+            try (InputStream in = zip.getInputStream(entry)) {
+                manifest.load(in);
+            }
+            return manifest;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Reading snapshot " + file + " failed", e);
+        }
+    }
+
+    private static List<String> parts(Path file) {
+        List<String> parts = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements(); ) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(PART_PREFIX)) {
+                    parts.add(name);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Reading snapshot " + file + " failed", e);
+        }
+        parts.sort(null);
+        return parts;
+    }
+
+    private static String literal(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,125 @@
+package com.restacademy.service.timing;
+
+/**
+ * Wall-clock time spent per phase of the current request, for the {@code Server-Timing} header.
+ *
+ * One instance per request, bound to the request thread between {@link #begin()} and {@link #end()}. Phases are
+ * measured with {@link #start(Phase)} / {@link #stop(Phase, long)} pairs around the outermost call only, so a
+ * service calling another service is counted once. Nothing done during authentication counts towards the
+ * service or repository phases; the user lookup is part of {@code auth}. Work on other threads is not seen.
+ */
+public final class RequestTimings {
+
+    /**
+     * Returned by {@link #start(Phase)} when the call is not measured
+     */
+    public static final long NOT_MEASURED = Long.MIN_VALUE;
+
+    public enum Phase {
+        AUTH("auth"),
+        SERVICE("service"),
+        REPOSITORY("repo"),
+        SERIALIZATION("ser");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final int AUTH_BIT = 1 << Phase.AUTH.ordinal();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[Phase.values().length];
+    private int active;
+    private long serializationStart = NOT_MEASURED;
+
+    private RequestTimings() {
+    }
+
+    /**
+     * Start timing a request on the current thread
+     */
+    public static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Unbind the request's timings from the current thread
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Enter a phase
+     * @return the start time to pass to {@link #stop}, or {@link #NOT_MEASURED}
+     */
+    public static long start(Phase phase) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return NOT_MEASURED;
+        }
+        int bit = 1 << phase.ordinal();
+        if ((timings.active & (bit | AUTH_BIT)) != 0) {
+            return NOT_MEASURED;
+        }
+        timings.active |= bit;
+        return System.nanoTime();
+    }
+
+    /**
+     * Leave a phase entered with {@link #start}
+     */
+    public static void stop(Phase phase, long start) {
+        if (start == NOT_MEASURED) {
+            return;
+        }
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.nanos[phase.ordinal()] += System.nanoTime() - start;
+            timings.active &= ~(1 << phase.ordinal());
+        }
+    }
+
+    /**
+     * Mark the start of response serialization; it lasts until {@link #elapsed} reads it
+     */
+    public void startSerialization() {
+        if (serializationStart == NOT_MEASURED) {
+            serializationStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Whether the response body has started to be written
+     */
+    public boolean isSerializationStarted() {
+        return serializationStart != NOT_MEASURED;
+    }
+
+    /**
+     * Time spent in a phase so far, in nanoseconds
+     */
+    public long elapsed(Phase phase) {
+        if (phase == Phase.SERIALIZATION && serializationStart != NOT_MEASURED) {
+            return System.nanoTime() - serializationStart;
+        }
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * Time since the request started, in nanoseconds
+     */
+    public long total() {
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,95 @@
+package com.restacademy.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pinning diagnostics for the virtual-thread mode
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event, which fires when a virtual thread blocks while it
+ * cannot unmount from its carrier (typically inside a {@code synchronized} block or a native frame). Each
+ * distinct pinning site is logged once with its stack; every occurrence is counted in the
+ * {@code threads.virtual.pinned} metric.
+ */
+@Component
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true", matchIfMissing = true)
+public class PinnedThreadMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream recording;
+
+    @Autowired
+    public PinnedThreadMonitor(MeterRegistry meterRegistry,
+                               @Value("${threads.virtual.pinning-threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.pinned = Counter.builder("threads.virtual.pinned")
+            .description("Virtual threads that blocked while pinned to their carrier thread")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        // The first application frame identifies the site; fall back to the top frame
+        RecordedFrame site = frames.stream()
+            .filter(frame -> frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith("com.restacademy."))
+            .findFirst()
+            .orElse(frames.isEmpty() ? null : frames.get(0));
+        if (site == null || !reportedSites.add(describe(site))) {
+            return;
+        }
+        StringBuilder stack = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            stack.append("\n\tat ").append(describe(frames.get(i)));
+        }
+        log.warn("Virtual thread pinned for {} ms at {}{}",
+            event.getDuration().toMillis(), describe(site), stack);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,37 @@
+package com.restacademy.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual-thread execution mode (Java 21 build only, see the {@code java21} Maven profile)
+ * Tomcat runs every request on its own virtual thread, so controllers, JPA calls and BCrypt hashing no
+ * longer hold one of a fixed number of platform workers while they block. {@link AsyncConfig} picks up
+ * the thread factory for {@code @Async} and MVC async work. Disable with {@code threads.virtual.enabled=false}
+ * to compare against the platform-thread default on the same JDK.
+ */
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean(name = AsyncConfig.VIRTUAL_THREAD_FACTORY)
+    public ThreadFactory virtualThreadFactory() {
+        return Thread.ofVirtual().name("virtual-", 0).factory();
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Tomcat requests run on virtual threads");
+        ThreadFactory requestThreads = Thread.ofVirtual().name("http-virtual-", 0).factory();
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newThreadPerTaskExecutor(requestThreads));
+    }
+}
@@ -0,0 +1,45 @@
+package com.restacademy.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.service.concurrency.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void shedRequest_ShouldGetOverloadedProblemDetail() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = mock(AdaptiveConcurrencyLimiter.class);
+        when(limiter.tryAcquire(any())).thenReturn(-1L);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, new ConcurrencyLimitProperties(),
+            objectMapper, new SimpleMeterRegistry());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertNull(chain.getRequest(), "shed request must not reach the application");
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertEquals("application/problem+json", response.getContentType());
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertEquals("urn:restacademy:problem:overloaded", body.get("type").asText());
+        assertEquals("Service Overloaded", body.get("title").asText());
+        assertEquals(503, body.get("status").asInt());
+        assertEquals("Server is overloaded, please retry", body.get("detail").asText());
+        assertEquals("/api/v1/users", body.get("instance").asText());
+    }
+}
@@ -0,0 +1,40 @@
+package com.restacademy.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightRecorderEndpointTest {
+
+    @Test
+    void recordingStoppedByMaxDuration_ShouldStillDumpAndClose(@TempDir Path directory) throws Exception {
+        FlightRecorderProperties properties = new FlightRecorderProperties();
+        properties.setSettings("default");
+        properties.setMaxDuration(Duration.ofMillis(200));
+        properties.setDirectory(directory.toString());
+        FlightRecorderEndpoint endpoint = new FlightRecorderEndpoint(properties);
+
+        assertEquals(200, endpoint.control("start").getStatus());
+        for (int attempt = 0; attempt < 100 && !"STOPPED".equals(endpoint.status().get("state")); attempt++) {
+            Thread.sleep(50);
+        }
+        assertEquals("STOPPED", endpoint.status().get("state"));
+
+        WebEndpointResponse<Map<String, Object>> dump = endpoint.control("dump");
+        assertEquals(200, dump.getStatus());
+        assertTrue(Files.size(Path.of((String) dump.getBody().get("lastDump"))) > 0);
+
+        WebEndpointResponse<Map<String, Object>> stop = endpoint.control("stop");
+        assertEquals(200, stop.getStatus());
+        assertEquals("NONE", stop.getBody().get("state"));
+        assertEquals(409, endpoint.control("dump").getStatus());
+    }
+}
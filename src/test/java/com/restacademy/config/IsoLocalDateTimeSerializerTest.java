@@ -0,0 +1,46 @@
+package com.restacademy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .registerModule(new SimpleModule().addSerializer(LocalDateTime.class, IsoLocalDateTimeSerializer.INSTANCE))
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void serialize_ShouldMatchIsoLocalDateTimeFormatter() throws Exception {
+        List<LocalDateTime> values = List.of(
+            LocalDateTime.of(2024, 1, 31, 9, 5),
+            LocalDateTime.of(2024, 12, 1, 23, 59, 59),
+            LocalDateTime.of(2024, 2, 29, 0, 0, 7, 120_000_000),
+            LocalDateTime.of(1999, 7, 4, 12, 30, 15, 123_456_789),
+            LocalDateTime.of(2000, 1, 1, 0, 0, 0, 5),
+            LocalDateTime.of(12, 3, 4, 5, 6, 7, 890_000),
+            LocalDateTime.of(12345, 1, 1, 0, 0)
+        );
+        for (LocalDateTime value : values) {
+            String expected = "\"" + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) + "\"";
+            assertEquals(expected, objectMapper.writeValueAsString(value));
+        }
+    }
+
+    @Test
+    void serialize_WithTimestampsEnabled_ShouldFallBackToArray() throws Exception {
+        String json = objectMapper.copy()
+            .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .writeValueAsString(LocalDateTime.of(2024, 1, 31, 9, 5));
+        assertEquals("[2024,1,31,9,5]", json);
+    }
+}
@@ -0,0 +1,58 @@
+package com.restacademy.config;
+
+import com.restacademy.controller.UserController;
+import com.restacademy.dto.UserPageResponse;
+import com.restacademy.dto.UserResponse;
+import com.restacademy.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.authentication.AuthenticationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WarmupRunnerTest {
+
+    @Test
+    void shutdown_ShouldStopWarmupBetweenRequests() throws Exception {
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        UserController userController = mock(UserController.class);
+        SnapshotRestorer snapshotRestorer = mock(SnapshotRestorer.class);
+        UserResponse user = new UserResponse(1L, "John", "Doe", "john@test.com", 30, "Engineering", null, null);
+        when(userController.getAllUsers(0, 20, "id", "asc"))
+            .thenReturn(ResponseEntity.ok(new UserPageResponse<>(List.of(user), 0, 1, 1, 20, false, false)));
+        when(snapshotRestorer.health()).thenReturn(Health.up().build());
+        when(jwtUtil.generateToken(anyString())).thenReturn("token");
+        // The first request of the mix runs until the warm-up thread is interrupted, then returns normally
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        when(jwtUtil.extractUsername("token")).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.onSpinWait();
+            }
+            return "john@test.com";
+        });
+        WarmupProperties properties = new WarmupProperties();
+        properties.setLoginsPerRound(0);
+        WarmupRunner runner = new WarmupRunner(mock(AuthenticationManager.class), jwtUtil, mock(UserService.class),
+            userController, new MappingJackson2HttpMessageConverter(), snapshotRestorer, properties);
+
+        runner.warmUpInBackground();
+        assertTrue(requestStarted.await(5, TimeUnit.SECONDS));
+        runner.shutdown();
+
+        assertEquals("skipped", runner.health().getDetails().get("state"));
+        verify(jwtUtil, atMost(1)).extractUsername("token");
+    }
+}
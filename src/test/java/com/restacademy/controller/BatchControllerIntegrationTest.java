@@ -0,0 +1,140 @@
+package com.restacademy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.dto.BatchOperation;
+import com.restacademy.dto.BatchRequest;
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: the batch manages its own transaction and the tests check what was committed
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+public class BatchControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        userRepository.deleteAll(); // Clean database before each test
+    }
+
+    @Test
+    void executeBatch_ContinueOnError_ShouldCommitSuccessfulOperations() throws Exception {
+        User existing = userRepository.save(new User("John", "Doe", "john@test.com", 30, "Engineering"));
+
+        BatchRequest request = new BatchRequest(BatchRequest.Mode.CONTINUE_ON_ERROR, List.of(
+            new BatchOperation(BatchOperation.Op.CREATE, null,
+                new UserCreateRequest("Jane", "Smith", "jane@test.com", 25, "Marketing")),
+            new BatchOperation(BatchOperation.Op.CREATE, null,
+                new UserCreateRequest("Johnny", "Doe", "john@test.com", 31, "Sales")),
+            new BatchOperation(BatchOperation.Op.DELETE, 999L, null),
+            new BatchOperation(BatchOperation.Op.UPDATE, existing.getId(),
+                new UserCreateRequest("John", "Doe", "john.doe@test.com", 31, "Management"))
+        ));
+
+        mockMvc.perform(post("/api/v1/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[*].status", contains(201, 409, 404, 200)))
+                .andExpect(jsonPath("$.results[0].user.email").value("jane@test.com"))
+                .andExpect(jsonPath("$.results[3].user.department").value("Management"));
+
+        assertEquals(2, userRepository.count());
+        assertTrue(userRepository.findByEmail("john.doe@test.com").isPresent());
+    }
+
+    @Test
+    void executeBatch_AllOrNothing_ShouldRollBackOnFirstFailure() throws Exception {
+        BatchRequest request = new BatchRequest(BatchRequest.Mode.ALL_OR_NOTHING, List.of(
+            new BatchOperation(BatchOperation.Op.CREATE, null,
+                new UserCreateRequest("Jane", "Smith", "jane@test.com", 25, "Marketing")),
+            new BatchOperation(BatchOperation.Op.CREATE, null,
+                new UserCreateRequest("", "Smith", "invalid-email", 25, "Marketing")),
+            new BatchOperation(BatchOperation.Op.DELETE, 1L, null)
+        ));
+
+        mockMvc.perform(post("/api/v1/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(false))
+                .andExpect(jsonPath("$.succeeded").value(0))
+                .andExpect(jsonPath("$.results[*].status", contains(424, 400, 424)));
+
+        assertEquals(0, userRepository.count());
+    }
+
+    @Test
+    void executeBatch_EmailTakenByConcurrentWriter_ShouldReturnConflict() throws Exception {
+        // Another transaction inserts the email after the batch has checked it but before the batch flushes
+        CountDownLatch inserted = new CountDownLatch(1);
+        CompletableFuture<Void> concurrentWriter = CompletableFuture.runAsync(() ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                userRepository.saveAndFlush(new User("Jane", "Doe", "jane@test.com", 41, "Sales"));
+                inserted.countDown();
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        assertTrue(inserted.await(5, TimeUnit.SECONDS));
+
+        BatchRequest request = new BatchRequest(BatchRequest.Mode.CONTINUE_ON_ERROR, List.of(
+            new BatchOperation(BatchOperation.Op.CREATE, null,
+                new UserCreateRequest("Jane", "Smith", "jane@test.com", 25, "Marketing"))
+        ));
+
+        mockMvc.perform(post("/api/v1/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON));
+
+        concurrentWriter.get(5, TimeUnit.SECONDS);
+        assertEquals(1, userRepository.count());
+        assertEquals("Sales", userRepository.findByEmail("jane@test.com").orElseThrow().getDepartment());
+    }
+}
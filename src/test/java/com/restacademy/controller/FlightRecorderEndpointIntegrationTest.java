@@ -0,0 +1,92 @@
+package com.restacademy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.config.JwtUtil;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"rate-limit.enabled=false",
+    "jfr.recording.directory=${java.io.tmpdir}/rest-academy-jfr-test", "jfr.recording.settings=default"})
+@ActiveProfiles("test")
+public class FlightRecorderEndpointIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+    }
+
+    @Test
+    void recording_ShouldCaptureApplicationEvents() throws Exception {
+        String bearer = "Bearer " + jwtUtil.generateToken("john.doe@example.com");
+
+        mockMvc.perform(post("/actuator/jfr/start")).andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/jfr/start").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+        mockMvc.perform(post("/actuator/jfr/start").header("Authorization", bearer))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/v1/users/department/IT").header("Authorization", bearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/users/{id}", Long.MAX_VALUE).header("Authorization", bearer))
+                .andExpect(status().isNotFound());
+
+        String body = mockMvc.perform(post("/actuator/jfr/stop").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("NONE"))
+                .andReturn().getResponse().getContentAsString();
+
+        Path dump = Path.of(objectMapper.readTree(body).get("lastDump").asText());
+        List<RecordedEvent> recorded = RecordingFile.readAllEvents(dump);
+        Set<String> events = recorded.stream()
+                .map(RecordedEvent::getEventType)
+                .map(type -> type.getName())
+                .filter(name -> name.startsWith("com.restacademy."))
+                .collect(Collectors.toSet());
+        // ResponseSerialization comes from a servlet filter, which MockMvc does not run
+        assertTrue(events.containsAll(Set.of("com.restacademy.JwtValidation", "com.restacademy.UserLookup",
+                "com.restacademy.RepositoryQuery")), events.toString());
+
+        // The failed lookup is recorded, and inherited repository methods are reported under UserRepository
+        assertTrue(recorded.stream().anyMatch(event -> event.getEventType().getName().equals("com.restacademy.UserLookup")
+                && "getUserById".equals(event.getString("operation"))
+                && "ResourceNotFoundException".equals(event.getString("exception"))), recorded.toString());
+        RecordedEvent findAllById = recorded.stream()
+                .filter(event -> event.getEventType().getName().equals("com.restacademy.RepositoryQuery")
+                    && "findAllById".equals(event.getString("query")))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("UserRepository", findAllById.getString("repository"));
+    }
+}
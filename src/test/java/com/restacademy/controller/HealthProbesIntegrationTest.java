@@ -0,0 +1,74 @@
+package com.restacademy.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"rate-limit.enabled=false", "warmup.enabled=false"})
+@ActiveProfiles("test")
+public class HealthProbesIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+    }
+
+    @Test
+    void readiness_ShouldIncludeCachedDependencyChecks() throws Exception {
+        int status = 0;
+        for (int attempt = 0; attempt < 100 && status != 200; attempt++) {
+            status = mockMvc.perform(get("/actuator/health/readiness")).andReturn().getResponse().getStatus();
+            if (status != 200) {
+                Thread.sleep(50);
+            }
+        }
+        assertEquals(200, status);
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(jsonPath("$.components.database.status").value("UP"))
+                .andExpect(jsonPath("$.components.database.details.database").value("H2"))
+                .andExpect(jsonPath("$.components.connectionPool.status").value("UP"))
+                .andExpect(jsonPath("$.components.connectionPool.details.pendingThreads").value(0))
+                .andExpect(jsonPath("$.components.warmup.details.state").value("disabled"));
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components", not(hasKey("database"))));
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components", not(hasKey("db"))));
+    }
+
+    @Test
+    void healthEndpoints_ShouldServePrecomputedBodies() throws Exception {
+        mockMvc.perform(get("/api/v1/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.database").value("UP"));
+
+        String first = mockMvc.perform(get("/api/v1/info")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String second = mockMvc.perform(get("/api/v1/info")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(first, second);
+        mockMvc.perform(get("/api/v1/info"))
+                .andExpect(jsonPath("$.application").value("RestAcademy"))
+                .andExpect(jsonPath("$.features['API Documentation']").value("OpenAPI 3 with Swagger UI"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.restacademy.controller;
+
+import com.restacademy.config.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureObservability(tracing = false) // metrics export is off by default in tests
+@ActiveProfiles("test")
+public class PrometheusEndpointIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldBePublicAndExportServiceTimersAndAuthFailures() throws Exception {
+        mockMvc.perform(get("/api/v1/users/department/HR/count")
+                .header("Authorization", "Bearer " + jwtUtil.generateToken("john.doe@example.com")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/users/department/HR/count").header("Authorization", "Bearer not-a-jwt"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/plain"))
+                .andExpect(content().string(containsString("# TYPE users_service_seconds histogram")))
+                .andExpect(content().string(containsString("method=\"getUserCountByDepartment\",le=\"0.001\",}")))
+                .andExpect(content().string(containsString("# TYPE jwt_operations_seconds histogram")))
+                .andExpect(content().string(containsString("operation=\"validate\",le=\"5.0E-5\",}")))
+                .andExpect(content().string(containsString("auth_failures_total{application=\"RestAcademy\","
+                    + "reason=\"invalid_token\",}")))
+                .andExpect(content().string(containsString("hibernate_sessions_open_total{application=\"RestAcademy\","
+                    + "entityManagerFactory=\"entityManagerFactory\",}")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+}
@@ -0,0 +1,38 @@
+package com.restacademy.controller;
+
+import com.restacademy.service.querystats.QueryStats;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Test helper counting the SQL statements an action issues.
+ *
+ * The persistence context is flushed and cleared before the action, so entities saved by the test are not
+ * served from the first-level cache, and flushed again inside the counted scope, so writes that the
+ * surrounding test transaction would defer until rollback are counted.
+ */
+public final class QueryCounter {
+
+    private final EntityManager entityManager;
+
+    public QueryCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public QueryStats count(Action action) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        QueryStats stats = QueryStats.start();
+        try {
+            action.run();
+            entityManager.flush();
+        } finally {
+            stats.stop();
+        }
+        return stats;
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
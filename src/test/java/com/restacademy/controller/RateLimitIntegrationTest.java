@@ -0,0 +1,100 @@
+package com.restacademy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.config.JwtUtil;
+import com.restacademy.dto.LoginRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+    "rate-limit.default-limit.capacity=3",
+    "rate-limit.default-limit.period=1h",
+    "rate-limit.routes[0].pattern=/api/v1/auth/**",
+    "rate-limit.routes[0].capacity=2",
+    "rate-limit.routes[0].period=1h"
+})
+@ActiveProfiles("test")
+public class RateLimitIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+    }
+
+    @Test
+    void authenticatedRequests_ShouldBeLimitedPerSubject() throws Exception {
+        String alice = "Bearer " + jwtUtil.generateToken("john.doe@example.com");
+        String bob = "Bearer " + jwtUtil.generateToken("jane.smith@example.com");
+
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            mockMvc.perform(get("/api/v1/users/department/HR/count").header("Authorization", alice))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "3"))
+                .andExpect(header().string("RateLimit-Remaining", String.valueOf(remaining)))
+                .andExpect(header().string("RateLimit-Policy", "3;w=3600"));
+        }
+        mockMvc.perform(get("/api/v1/users/department/HR/count").header("Authorization", alice))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("RateLimit-Remaining", "0"))
+            .andExpect(header().string("Retry-After", "1200"))
+            .andExpect(content().contentType("application/problem+json"))
+            .andExpect(jsonPath("$.type").value("urn:restacademy:problem:rate-limited"))
+            .andExpect(jsonPath("$.title").value("Too Many Requests"))
+            .andExpect(jsonPath("$.status").value(429))
+            .andExpect(jsonPath("$.detail").value("Rate limit exceeded, retry in 1200 s"))
+            .andExpect(jsonPath("$.instance").value("/api/v1/users/department/HR/count"));
+
+        // Another subject has its own bucket
+        mockMvc.perform(get("/api/v1/users/department/HR/count").header("Authorization", bob))
+            .andExpect(status().isOk())
+            .andExpect(header().string("RateLimit-Remaining", "2"));
+    }
+
+    @Test
+    void publicAuthRoutes_ShouldBeLimitedPerAddress() throws Exception {
+        String body = objectMapper.writeValueAsString(new LoginRequest("nobody@example.com", "wrong-password"));
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/auth/login").with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                }).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("RateLimit-Limit", "2"));
+        }
+        mockMvc.perform(post("/api/v1/auth/login").with(request -> {
+                request.setRemoteAddr("10.0.0.1");
+                return request;
+            }).contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"));
+
+        mockMvc.perform(post("/api/v1/auth/login").with(request -> {
+                request.setRemoteAddr("10.0.0.2");
+                return request;
+            }).contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,133 @@
+package com.restacademy.controller;
+
+import com.restacademy.config.JwtUtil;
+import com.restacademy.config.QueryStatsFilter;
+import com.restacademy.config.ServerTimingFilter;
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@ActiveProfiles("test")
+public class ServerTimingIntegrationTest {
+
+    private static final Pattern HEADER = Pattern.compile(
+        "auth;dur=(\\d+\\.\\d{3}), service;dur=(\\d+\\.\\d{3}), repo;dur=(\\d+\\.\\d{3}), "
+            + "db;dur=(\\d+\\.\\d{3});desc=\"(\\d+) statements?\", ser;dur=(\\d+\\.\\d{3}), total;dur=(\\d+\\.\\d{3})");
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private MockMvc mockMvc;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = mockMvc(webApplicationContext);
+        user = userRepository.findByEmail("timing@test.com")
+            .orElseGet(() -> userRepository.save(new User("Tim", "Ing", "timing@test.com", 30, "Engineering")));
+    }
+
+    @Test
+    void authenticatedRequest_ShouldReportEveryPhase() throws Exception {
+        String header = mockMvc.perform(get("/api/v1/users/{id}", user.getId())
+                .header("Authorization", "Bearer " + jwtUtil.generateToken(user.getEmail())))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("Server-Timing");
+
+        Map<String, Double> timings = parse(header);
+        assertTrue(timings.get("auth") > 0, header);
+        assertTrue(timings.get("service") > 0, header);
+        assertTrue(timings.get("repo") > 0, header);
+        assertTrue(timings.get("repo") <= timings.get("service"), header);
+        assertTrue(timings.get("statements") >= 1, header);
+        assertTrue(timings.get("auth") + timings.get("service") <= timings.get("total"), header);
+    }
+
+    @Test
+    void authenticationLookup_ShouldNotCountAsServiceOrRepositoryTime() throws Exception {
+        // The JWT filter loads the user through a service and a repository, then the request fails
+        // argument conversion before any controller code runs
+        String header = mockMvc.perform(get("/api/v1/users/{id}", "not-a-number")
+                .header("Authorization", "Bearer " + jwtUtil.generateToken(user.getEmail())))
+            .andExpect(status().isBadRequest())
+            .andReturn().getResponse().getHeader("Server-Timing");
+
+        Map<String, Double> timings = parse(header);
+        assertTrue(timings.get("auth") > 0, header);
+        assertEquals(0.0, timings.get("service"), header);
+        assertEquals(0.0, timings.get("repo"), header);
+    }
+
+    @Nested
+    @TestPropertySource(properties = "server-timing.header-enabled=false")
+    class HeaderDisabled {
+
+        @Autowired
+        private WebApplicationContext headerDisabledContext;
+
+        @Test
+        void request_ShouldNotCarryServerTimingHeader() throws Exception {
+            mockMvc(headerDisabledContext).perform(get("/api/v1/users/{id}", user.getId())
+                    .header("Authorization", "Bearer " + jwtUtil.generateToken(user.getEmail())))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Server-Timing"));
+        }
+    }
+
+    // Servlet filters are not picked up by MockMvc; added in their registration order, before Spring Security
+    @SuppressWarnings("unchecked")
+    private static MockMvc mockMvc(WebApplicationContext context) {
+        FilterRegistrationBean<QueryStatsFilter> queryStatsFilter =
+            context.getBean("queryStatsFilter", FilterRegistrationBean.class);
+        FilterRegistrationBean<ServerTimingFilter> serverTimingFilter =
+            context.getBean("serverTimingFilter", FilterRegistrationBean.class);
+        return MockMvcBuilders.webAppContextSetup(context)
+            .addFilters(queryStatsFilter.getFilter(), serverTimingFilter.getFilter())
+            .apply(springSecurity())
+            .build();
+    }
+
+    private static Map<String, Double> parse(String header) {
+        assertNotNull(header, "Server-Timing header missing");
+        Matcher matcher = HEADER.matcher(header);
+        assertTrue(matcher.matches(), header);
+        Map<String, Double> timings = new HashMap<>();
+        timings.put("auth", Double.parseDouble(matcher.group(1)));
+        timings.put("service", Double.parseDouble(matcher.group(2)));
+        timings.put("repo", Double.parseDouble(matcher.group(3)));
+        timings.put("db", Double.parseDouble(matcher.group(4)));
+        timings.put("statements", Double.parseDouble(matcher.group(5)));
+        timings.put("ser", Double.parseDouble(matcher.group(6)));
+        timings.put("total", Double.parseDouble(matcher.group(7)));
+        return timings;
+    }
+}
@@ -0,0 +1,84 @@
+package com.restacademy.controller;
+
+import com.restacademy.config.JwtUtil;
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import com.restacademy.service.snapshot.UserSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"rate-limit.enabled=false", "warmup.enabled=false",
+    "snapshot.file=${java.io.tmpdir}/rest-academy-snapshot-test/users.zip"})
+@ActiveProfiles("test")
+public class SnapshotEndpointIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSnapshotService snapshotService;
+
+    @Value("${snapshot.file}")
+    private Path snapshotFile;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+    }
+
+    @Test
+    void snapshot_ShouldRestoreDumpedUsers() throws Exception {
+        String bearer = "Bearer " + jwtUtil.generateToken("john.doe@example.com");
+        long users = userRepository.count();
+        long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        Long johnId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'john.doe@example.com'",
+                Long.class);
+
+        mockMvc.perform(post("/actuator/snapshot")).andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/snapshot").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users").value(users))
+                .andExpect(jsonPath("$.exists").value(true));
+
+        jdbcTemplate.update("DELETE FROM users");
+        assertEquals(users, snapshotService.restore(snapshotFile));
+
+        mockMvc.perform(get("/api/v1/users/" + johnId).header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("John"));
+        User created = userRepository.save(new User("Snap", "Shot", "snap.shot@example.com", "secret", 40, "IT"));
+        assertTrue(created.getId() > maxId, "id " + created.getId() + " must not reuse a restored id");
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components.snapshot.status").value("UP"));
+    }
+}
@@ -1,10 +1,19 @@
 package com.restacademy.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
 import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.dto.UserLookupRequest;
 import com.restacademy.dto.UserUpdateRequest;
 import com.restacademy.model.User;
 import com.restacademy.repository.UserRepository;
+import com.restacademy.service.querystats.QueryStats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +26,11 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -36,6 +49,9 @@ public class UserControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -73,7 +89,8 @@ public class UserControllerIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.error").value("Validation Failed"));
+                .andExpect(jsonPath("$.title").value("Validation Failed"))
+                .andExpect(jsonPath("$.validationErrors.firstName").exists());
     }
 
     @Test
@@ -94,7 +111,12 @@ public class UserControllerIntegrationTest {
     void getUserById_WithNonExistentId_ShouldReturnNotFound() throws Exception {
         mockMvc.perform(get("/api/v1/users/{id}", 999L))
                 .andExpect(status().isNotFound())
-                .andExpect(jsonPath("$.error").value("Resource Not Found"));
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("urn:restacademy:problem:not-found"))
+                .andExpect(jsonPath("$.title").value("Resource Not Found"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.detail").value("User not found with id: 999"))
+                .andExpect(jsonPath("$.instance").value("/api/v1/users/999"));
     }
 
     @Test
@@ -160,4 +182,186 @@ public class UserControllerIntegrationTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$", hasSize(2)));
     }
+
+    @Test
+    void getUserChanges_ShouldReturnUpsertsAndDeletionsInSequenceOrder() throws Exception {
+        User john = userRepository.save(new User("John", "Doe", "john@test.com", 30, "Engineering"));
+        User jane = userRepository.save(new User("Jane", "Smith", "jane@test.com", 25, "Marketing"));
+
+        mockMvc.perform(delete("/api/v1/users/{id}", john.getId()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/users/changes")
+                .param("since", String.valueOf(john.getChangeSeq() - 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[0].type").value("UPSERT"))
+                .andExpect(jsonPath("$.changes[0].id").value(jane.getId()))
+                .andExpect(jsonPath("$.changes[0].user.email").value("jane@test.com"))
+                .andExpect(jsonPath("$.changes[1].type").value("DELETE"))
+                .andExpect(jsonPath("$.changes[1].id").value(john.getId()))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getUserChanges_WithInvalidLimit_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/users/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getUsersByIds_ShouldPreserveOrderAndReportMissingIds() throws Exception {
+        User john = userRepository.save(new User("John", "Doe", "john@test.com", 30, "Engineering"));
+        User jane = userRepository.save(new User("Jane", "Smith", "jane@test.com", 25, "Marketing"));
+
+        mockMvc.perform(get("/api/v1/users")
+                .param("ids", jane.getId() + ",999," + john.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users", hasSize(2)))
+                .andExpect(jsonPath("$.users[0].id").value(jane.getId()))
+                .andExpect(jsonPath("$.users[1].id").value(john.getId()))
+                .andExpect(jsonPath("$.missingIds", contains(999)));
+    }
+
+    @Test
+    void lookupUsers_ShouldResolveIdsFromRequestBody() throws Exception {
+        User john = userRepository.save(new User("John", "Doe", "john@test.com", 30, "Engineering"));
+
+        mockMvc.perform(post("/api/v1/users/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UserLookupRequest(List.of(john.getId(), john.getId())))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users", hasSize(1)))
+                .andExpect(jsonPath("$.users[0].email").value("john@test.com"))
+                .andExpect(jsonPath("$.missingIds").isEmpty());
+    }
+
+    @Test
+    void createUser_WithCborBody_ShouldNegotiateCborResponse() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+        UserCreateRequest request = new UserCreateRequest("John", "Doe", "john.doe@test.com", 30, "Engineering");
+
+        byte[] body = mockMvc.perform(post("/api/v1/users")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode user = cborMapper.readTree(body);
+        assertEquals("john.doe@test.com", user.get("email").asText());
+        assertEquals(true, user.get("createdAt").isArray());
+    }
+
+    @Test
+    void getUserById_WithProtobufAccept_ShouldReturnProtobufMessage() throws Exception {
+        User john = userRepository.save(new User("John", "Doe", "john@test.com", 30, "Engineering"));
+
+        byte[] body = mockMvc.perform(get("/api/v1/users/{id}", john.getId())
+                .accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        CodedInputStream input = CodedInputStream.newInstance(body);
+        assertEquals(1 << 3 | WireFormat.WIRETYPE_VARINT, input.readTag());
+        assertEquals(john.getId().longValue(), input.readInt64());
+        assertEquals(2 << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED, input.readTag());
+        assertEquals("John", input.readString());
+    }
+
+    @Test
+    void createUser_WithInvalidProtobufBody_ShouldReturnValidationErrors() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        output.writeString(1, "John");
+        output.writeString(3, "john.doe@test.com");
+        output.flush();
+
+        mockMvc.perform(post("/api/v1/users")
+                .contentType("application/x-protobuf")
+                .content(bytes.toByteArray()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors.lastName").value("Last name is required"))
+                .andExpect(jsonPath("$.validationErrors.age").value("Age is required"));
+    }
+
+    @Test
+    void getAllUsers_WithFields_ShouldReturnOnlyRequestedProperties() throws Exception {
+        userRepository.save(new User("John", "Doe", "john@test.com", 30, "Engineering"));
+        userRepository.save(new User("Jane", "Smith", "jane@test.com", 25, "Marketing"));
+
+        mockMvc.perform(get("/api/v1/users")
+                .param("fields", "email,id")
+                .param("sortBy", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users", hasSize(2)))
+                .andExpect(jsonPath("$.users[0].email").value("jane@test.com"))
+                .andExpect(jsonPath("$.users[0].id").exists())
+                .andExpect(jsonPath("$.users[0].firstName").doesNotExist())
+                .andExpect(jsonPath("$.totalItems").value(2));
+
+        mockMvc.perform(get("/api/v1/users/department/{department}", "Engineering")
+                .param("fields", "firstName,lastName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].lastName").value("Doe"))
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+    }
+
+    @Test
+    void searchUsers_WithUnknownField_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/users/search")
+                .param("firstName", "jo")
+                .param("fields", "id,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", containsString("Unknown field 'password'")));
+    }
+
+    @Test
+    void userEndpoints_ShouldIssueExpectedNumberOfStatements() throws Exception {
+        User user = userRepository.save(new User("John", "Doe", "john.doe@test.com", 30, "Engineering"));
+        userRepository.save(new User("Jane", "Smith", "jane.smith@test.com", 25, "Engineering"));
+        QueryCounter queries = new QueryCounter(entityManager);
+
+        QueryStats stats = queries.count(() -> mockMvc.perform(get("/api/v1/users/{id}", user.getId()))
+                .andExpect(status().isOk()));
+        assertEquals(1, stats.getStatements(), stats.toString());
+
+        stats = queries.count(() -> mockMvc.perform(get("/api/v1/users").param("page", "0").param("size", "1"))
+                .andExpect(status().isOk()));
+        // Page plus count query
+        assertEquals(2, stats.getSelects(), stats.toString());
+        assertEquals(2, stats.getStatements(), stats.toString());
+
+        stats = queries.count(() -> mockMvc.perform(get("/api/v1/users/department/{department}", "Engineering"))
+                .andExpect(status().isOk()));
+        assertEquals(1, stats.getStatements(), stats.toString());
+
+        stats = queries.count(() -> mockMvc.perform(post("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new UserCreateRequest("Mike", "Johnson", "mike@test.com", 28, "Sales"))))
+                .andExpect(status().isCreated()));
+        // Email uniqueness check and insert; ids come from the pooled sequence
+        assertEquals(1, stats.getInserts(), stats.toString());
+        assertEquals(2, stats.getStatements(), stats.toString());
+
+        stats = queries.count(() -> mockMvc.perform(put("/api/v1/users/{id}", user.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new UserUpdateRequest("John", "Smith", "john.smith@test.com", 31, "Management"))))
+                .andExpect(status().isOk()));
+        // Load, email uniqueness check (email changed) and update
+        assertEquals(1, stats.getUpdates(), stats.toString());
+        assertEquals(3, stats.getStatements(), stats.toString());
+
+        stats = queries.count(() -> mockMvc.perform(delete("/api/v1/users/{id}", user.getId()))
+                .andExpect(status().isNoContent()));
+        // Load, tombstone id, delete and tombstone insert
+        assertEquals(1, stats.getDeletes(), stats.toString());
+        assertEquals(1, stats.getInserts(), stats.toString());
+        assertEquals(4, stats.getStatements(), stats.toString());
+    }
 }
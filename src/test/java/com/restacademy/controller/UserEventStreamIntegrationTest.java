@@ -0,0 +1,130 @@
+package com.restacademy.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.dto.UserCreateRequest;
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import com.restacademy.service.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: stream events are only published once the change commits
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+public class UserEventStreamIntegrationTest {
+
+    private static final Pattern EVENT = Pattern.compile("id:(\\d+)\nevent:(\\w+)\ndata:(.*)\n");
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        userRepository.deleteAll(); // Clean database before each test
+    }
+
+    @Test
+    void stream_ShouldPushCommittedChangesAndResumeFromLastEventId() throws Exception {
+        MvcResult live = mockMvc.perform(get("/api/v1/users/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        createUser("jane@test.com");
+        createUser("john@test.com");
+        List<String[]> events = awaitEvents(live, 2);
+        assertEquals("created", events.get(0)[1]);
+        assertThat(events.get(0)[2], containsString("\"email\":\"jane@test.com\""));
+        assertThat(events.get(1)[2], containsString("\"email\":\"john@test.com\""));
+
+        // Reconnecting after the first event replays only what was missed
+        MvcResult resumed = mockMvc.perform(get("/api/v1/users/stream").header("Last-Event-ID", events.get(0)[0]))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        List<String[]> replayed = awaitEvents(resumed, 1);
+        assertEquals(events.get(1)[0], replayed.get(0)[0]);
+        assertThat(replayed.get(0)[2], containsString("\"email\":\"john@test.com\""));
+        assertThat(resumed.getResponse().getContentAsString(), not(containsString("jane@test.com")));
+
+        // Changes published outside a transaction are delivered too
+        User user = userRepository.findByEmail("jane@test.com").orElseThrow();
+        user.setDepartment("Management");
+        eventPublisher.publishEvent(UserChangedEvent.updated(user));
+        assertEquals("updated", awaitEvents(live, 3).get(2)[1]);
+        assertEquals("updated", awaitEvents(resumed, 2).get(1)[1]);
+    }
+
+    @Test
+    void stream_ShouldAskForResyncWhenLastEventIdIsNoLongerBuffered() throws Exception {
+        createUser("jane@test.com");
+
+        MvcResult resumed = mockMvc.perform(get("/api/v1/users/stream").header("Last-Event-ID", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        List<String[]> events = awaitEvents(resumed, 1);
+        assertEquals("0", events.get(0)[0]);
+        assertEquals("resync", events.get(0)[1]);
+        assertEquals("{\"since\":0}", events.get(0)[2]);
+    }
+
+    private void createUser(String email) throws Exception {
+        mockMvc.perform(post("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new UserCreateRequest("Test", "User", email, 30, "Engineering"))))
+                .andExpect(status().isCreated());
+    }
+
+    // Events are written to the response by the dispatch threads while the request stays open
+    private static List<String[]> awaitEvents(MvcResult result, int count) throws Exception {
+        List<String[]> events = new ArrayList<>();
+        for (int attempt = 0; attempt < 100; attempt++) {
+            events.clear();
+            Matcher matcher = EVENT.matcher(result.getResponse().getContentAsString());
+            while (matcher.find()) {
+                events.add(new String[] {matcher.group(1), matcher.group(2), matcher.group(3)});
+            }
+            if (events.size() >= count) {
+                return events;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Expected " + count + " events but got: " + result.getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,169 @@
+package com.restacademy.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: the export runs on a background thread and must see committed rows
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+public class UserExportControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    private User john;
+    private User jane;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        userRepository.deleteAll(); // Clean database before each test
+        john = userRepository.save(new User("John", "Doe, Jr", "john@test.com", 30, "Engineering"));
+        jane = userRepository.save(new User("Jane", "Smith", "jane@test.com", 25, null));
+    }
+
+    @Test
+    void exportCsv_ShouldWriteAllUsersWithQuotedFields() throws Exception {
+        String jobId = startExport("CSV", false);
+        JsonNode status = awaitCompletion(jobId);
+        assertEquals("COMPLETED", status.get("state").asText());
+        assertEquals(2, status.get("rowsWritten").asLong());
+
+        String csv = mockMvc.perform(get(status.get("downloadUrl").asText()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = csv.split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,firstName,lastName,email,age,department,createdAt,updatedAt", lines[0]);
+        assertEquals(john.getId() + ",John,\"Doe, Jr\",john@test.com,30,Engineering,", lines[1].substring(0, lines[1].indexOf("Engineering,") + 12));
+        assertEquals(jane.getId() + ",Jane,Smith,jane@test.com,25,,", lines[2].substring(0, lines[2].indexOf(",,") + 2));
+    }
+
+    @Test
+    void exportColumnarGzip_ShouldRoundTripIdsAndDepartments() throws Exception {
+        String jobId = startExport("COLUMNAR", true);
+        JsonNode status = awaitCompletion(jobId);
+        assertEquals("COMPLETED", status.get("state").asText());
+
+        byte[] body = mockMvc.perform(get(status.get("downloadUrl").asText()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(status.get("sizeBytes").asLong(), body.length);
+
+        DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(body)));
+        byte[] magic = new byte[7];
+        in.readFully(magic);
+        assertArrayEquals("RAUSERS".getBytes(StandardCharsets.US_ASCII), magic);
+        assertEquals(1, in.readUnsignedByte());
+
+        assertEquals(2, readVarint(in));
+        List<Long> ids = new ArrayList<>();
+        readVarint(in); // id column length
+        long id = 0;
+        for (int i = 0; i < 2; i++) {
+            id += unzigzag(readVarint(in));
+            ids.add(id);
+        }
+        assertEquals(List.of(john.getId(), jane.getId()), ids);
+
+        for (int column = 0; column < 4; column++) { // firstName, lastName, email, age
+            in.skipNBytes(readVarint(in));
+        }
+        readVarint(in); // department column length
+        assertEquals(1, readVarint(in));
+        long length = readVarint(in) - 1;
+        assertEquals("Engineering", new String(in.readNBytes((int) length), StandardCharsets.UTF_8));
+        assertEquals(1, readVarint(in));
+        assertEquals(0, readVarint(in));
+
+        for (int column = 0; column < 2; column++) { // createdAt, updatedAt
+            in.skipNBytes(readVarint(in));
+        }
+        assertEquals(0, readVarint(in));
+        assertEquals(2, readVarint(in));
+    }
+
+    @Test
+    void startExport_WithUnknownFormat_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/users/export").param("format", "XML"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String startExport(String format, boolean gzip) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/users/export")
+                .param("format", format)
+                .param("gzip", Boolean.toString(gzip)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("jobId").asText();
+    }
+
+    private JsonNode awaitCompletion(String jobId) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String body = mockMvc.perform(get("/api/v1/users/export/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode status = objectMapper.readTree(body);
+            String state = status.get("state").asText();
+            if (state.equals("COMPLETED") || state.equals("FAILED")) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Export job " + jobId + " did not finish");
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.read();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
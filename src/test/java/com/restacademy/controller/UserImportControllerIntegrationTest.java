@@ -0,0 +1,161 @@
+package com.restacademy.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: the import runs on a background thread and commits its own chunks
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+public class UserImportControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        userRepository.deleteAll(); // Clean database before each test
+    }
+
+    @Test
+    void importCsv_ShouldImportValidRowsAndReportRejectedOnes() throws Exception {
+        userRepository.save(new User("John", "Doe", "john@test.com", 30, "Engineering"));
+        String csv = "firstName,lastName,email,age,department\n"
+            + "Jane,Smith,jane@test.com,25,Marketing\n"
+            + "\"Mary Ann\",\"O'Neil, Jr\",mary@test.com,41,\n"
+            + "John,Again,john@test.com,30,Sales\n"
+            + "X,Short,not-an-email,abc,Sales\n";
+
+        String body = mockMvc.perform(post("/api/v1/users/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(body).get("jobId").asText();
+
+        JsonNode status = awaitCompletion(jobId);
+        assertEquals("COMPLETED", status.get("state").asText());
+        assertEquals(4, status.get("rowsRead").asLong());
+        assertEquals(2, status.get("imported").asLong());
+        assertEquals(2, status.get("rejected").asLong());
+        assertTrue(userRepository.findByEmail("mary@test.com").isPresent());
+        assertEquals("O'Neil, Jr", userRepository.findByEmail("mary@test.com").get().getLastName());
+
+        mockMvc.perform(get("/api/v1/users/import/{jobId}/errors", jobId))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Email already exists: john@test.com")))
+                .andExpect(content().string(containsString("age: must be a number")));
+    }
+
+    @Test
+    void importNdjson_ShouldImportEachLine() throws Exception {
+        String ndjson = "{\"firstName\":\"Jane\",\"lastName\":\"Smith\",\"email\":\"jane@test.com\",\"age\":25}\n"
+            + "{not json}\n";
+
+        String body = mockMvc.perform(post("/api/v1/users/import")
+                .contentType("application/x-ndjson")
+                .content(ndjson))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode status = awaitCompletion(objectMapper.readTree(body).get("jobId").asText());
+        assertEquals(1, status.get("imported").asLong());
+        assertEquals(1, status.get("rejected").asLong());
+    }
+
+    @Test
+    void importCsv_EmailTakenByConcurrentWriter_ShouldRejectChunkAndContinue() throws Exception {
+        // Another transaction inserts an email after the chunk has checked it but before the chunk flushes
+        CountDownLatch inserted = new CountDownLatch(1);
+        CompletableFuture<Void> concurrentWriter = CompletableFuture.runAsync(() ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                userRepository.saveAndFlush(new User("Jane", "Doe", "jane@test.com", 41, "Sales"));
+                inserted.countDown();
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        assertTrue(inserted.await(5, TimeUnit.SECONDS));
+
+        String csv = "firstName,lastName,email,age,department\n"
+            + "Jane,Smith,jane@test.com,25,Marketing\n"
+            + "Bob,Brown,bob@test.com,35,Sales\n";
+        String body = mockMvc.perform(post("/api/v1/users/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(body).get("jobId").asText();
+
+        JsonNode status = awaitCompletion(jobId);
+        concurrentWriter.get(5, TimeUnit.SECONDS);
+        assertEquals("COMPLETED", status.get("state").asText());
+        assertEquals(0, status.get("imported").asLong());
+        assertEquals(2, status.get("rejected").asLong());
+        assertEquals(1, userRepository.count());
+
+        mockMvc.perform(get("/api/v1/users/import/{jobId}/errors", jobId))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("bob@test.com\",\"Chunk rolled back")));
+    }
+
+    @Test
+    void getImportStatus_WithUnknownJob_ShouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/users/import/{jobId}", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode awaitCompletion(String jobId) throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            String body = mockMvc.perform(get("/api/v1/users/import/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode status = objectMapper.readTree(body);
+            String state = status.get("state").asText();
+            if (state.equals("COMPLETED") || state.equals("FAILED")) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Import job " + jobId + " did not finish");
+    }
+}
@@ -0,0 +1,63 @@
+package com.restacademy.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"rate-limit.enabled=false", "warmup.enabled=true", "warmup.iterations-per-round=5",
+    "warmup.min-rounds=2", "warmup.max-rounds=4", "warmup.stable-rounds=1", "warmup.logins-per-round=1"})
+@ActiveProfiles("test")
+public class WarmupIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+    }
+
+    @Test
+    void readiness_ShouldReportWarmupOnceItCompleted() throws Exception {
+        int status = 0;
+        for (int attempt = 0; attempt < 300 && status != 200; attempt++) {
+            status = mockMvc.perform(get("/actuator/health/readiness")).andReturn().getResponse().getStatus();
+            if (status != 200) {
+                assertEquals(503, status);
+                Thread.sleep(100);
+            }
+        }
+
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.components.warmup.status").value("UP"))
+                .andExpect(jsonPath("$.components.warmup.details.state").value("completed"))
+                .andExpect(jsonPath("$.components.warmup.details.rounds").value(greaterThanOrEqualTo(2)))
+                .andExpect(jsonPath("$.components.warmup.details.lastRoundMicros", hasKey("users-page")))
+                .andExpect(jsonPath("$.components.warmup.details.lastRoundMicros", hasKey("login")));
+        mockMvc.perform(get("/actuator/health/liveness")).andExpect(status().isOk());
+
+        // The synthetic requests do not show up in the request timers
+        assertTrue(meterRegistry.find("users.service").timers().isEmpty());
+        assertTrue(meterRegistry.find("jwt.operations").timers().isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.restacademy.service;
+
+import com.restacademy.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void submit_ShouldNotEvictJobsWhileTheyAreDownloaded() throws IOException {
+        JobRegistry<FileJob> registry = new JobRegistry<>("Test", 2);
+        FileJob downloaded = finished("downloaded");
+        FileJob running = job("running");
+        registry.submit(downloaded, job -> { });
+        registry.submit(running, job -> job.markRunning());
+        assertTrue(downloaded.beginDownload());
+
+        // Neither job can be evicted: one is being downloaded, the other is still running
+        registry.submit(finished("third"), job -> { });
+        assertSame(downloaded, registry.get("downloaded"));
+        assertTrue(Files.exists(downloaded.file));
+        assertSame(running, registry.get("running"));
+
+        downloaded.endDownload();
+        registry.submit(finished("fourth"), job -> { });
+        assertThrows(ResourceNotFoundException.class, () -> registry.get("downloaded"));
+        assertFalse(Files.exists(downloaded.file));
+        assertFalse(downloaded.beginDownload());
+    }
+
+    @Test
+    void submit_WhenWorkerRejectsJob_ShouldDiscardJobAndFiles() throws IOException {
+        JobRegistry<FileJob> registry = new JobRegistry<>("Test", 2);
+        FileJob rejected = job("rejected");
+
+        assertThrows(TaskRejectedException.class, () -> registry.submit(rejected, job -> {
+            throw new TaskRejectedException("Job queue is full");
+        }));
+        assertThrows(ResourceNotFoundException.class, () -> registry.get("rejected"));
+        assertFalse(Files.exists(rejected.file));
+    }
+
+    private FileJob finished(String id) throws IOException {
+        FileJob job = job(id);
+        job.markRunning();
+        job.markCompleted();
+        return job;
+    }
+
+    private FileJob job(String id) throws IOException {
+        return new FileJob(id, Files.createFile(directory.resolve(id)));
+    }
+
+    private static final class FileJob extends BackgroundJob {
+
+        private final Path file;
+
+        FileJob(String id, Path file) {
+            super(id);
+            this.file = file;
+        }
+
+        @Override
+        protected List<Path> files() {
+            return List.of(file);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.restacademy.service;
+
+import com.restacademy.dto.UserResponse;
+import com.restacademy.model.User;
+import com.restacademy.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserBatchLoaderTest {
+
+    @Test
+    void load_ShouldMergeConcurrentLookupsAndHandLeadershipOn() throws Exception {
+        UserRepository userRepository = mock(UserRepository.class);
+        CountDownLatch firstQueryStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstQuery = new CountDownLatch(1);
+        List<List<Long>> queries = new CopyOnWriteArrayList<>();
+        Set<Thread> queryThreads = ConcurrentHashMap.newKeySet();
+        when(userRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Long> ids = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(ids::add);
+            queries.add(ids);
+            queryThreads.add(Thread.currentThread());
+            if (queries.size() == 1) {
+                firstQueryStarted.countDown();
+                releaseFirstQuery.await();
+            }
+            return ids.stream().filter(id -> id != 404).map(UserBatchLoaderTest::user).toList();
+        });
+        UserBatchLoader loader = new UserBatchLoader(userRepository, 0, 2);
+
+        List<Thread> callers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(5, runnable -> {
+            Thread thread = new Thread(runnable);
+            callers.add(thread);
+            return thread;
+        });
+        try {
+            List<Future<Optional<UserResponse>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> loader.load(1L)));
+            assertTrue(firstQueryStarted.await(5, TimeUnit.SECONDS));
+            for (long id : new long[] {2, 3, 404, 5}) {
+                results.add(executor.submit(() -> loader.load(id)));
+            }
+            // The other callers queue up behind the running query (the first one waits inside it)
+            for (int attempt = 0; attempt < 500 && !parked(callers, 5); attempt++) {
+                Thread.sleep(10);
+            }
+            assertTrue(parked(callers, 5));
+            releaseFirstQuery.countDown();
+
+            assertEquals(1L, results.get(0).get(5, TimeUnit.SECONDS).orElseThrow().getId());
+            assertEquals(2L, results.get(1).get(5, TimeUnit.SECONDS).orElseThrow().getId());
+            assertEquals(3L, results.get(2).get(5, TimeUnit.SECONDS).orElseThrow().getId());
+            assertTrue(results.get(3).get(5, TimeUnit.SECONDS).isEmpty());
+            assertEquals(5L, results.get(4).get(5, TimeUnit.SECONDS).orElseThrow().getId());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // One query for the first caller, then two batches of two, each run by a different waiting caller
+        assertEquals(3, queries.size());
+        assertEquals(List.of(1L), queries.get(0));
+        assertEquals(2, queries.get(1).size());
+        assertEquals(2, queries.get(2).size());
+        assertEquals(3, queryThreads.size());
+    }
+
+    @Test
+    void load_ShouldNotBatchInsideTransaction() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user(7L)));
+        UserBatchLoader loader = new UserBatchLoader(userRepository, 0, 100);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertEquals(7L, loader.load(7L).orElseThrow().getId());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        verify(userRepository, never()).findAllById(any());
+    }
+
+    private static boolean parked(List<Thread> callers, int count) {
+        return callers.stream().filter(thread -> thread.getState() == Thread.State.WAITING).count() >= count;
+    }
+
+    private static User user(long id) {
+        User user = new User("John", "Doe", "john" + id + "@test.com", 30, "Engineering");
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,87 @@
+package com.restacademy.service;
+
+import com.restacademy.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserEventStreamTest {
+
+    @Test
+    void onUserChanged_ShouldDisconnectOnlySubscribersThatFallBehind() {
+        // Dispatch never runs, so nothing is delivered and subscriber buffers only fill up
+        PausedExecutor dispatcher = new PausedExecutor();
+        UserEventStream stream = new UserEventStream(Jackson2ObjectMapperBuilder.json().build(), 60_000, 16, 4,
+            dispatcher, 3600);
+
+        stream.subscribe(null);
+        for (long seq = 1; seq <= 3; seq++) {
+            stream.onUserChanged(created(seq));
+        }
+        stream.subscribe(null);
+        assertEquals(2, stream.getSubscriberCount());
+
+        // The first subscriber now has 4 undelivered events, the second one 1
+        stream.onUserChanged(created(4));
+        assertEquals(2, stream.getSubscriberCount());
+        stream.onUserChanged(created(5));
+        assertEquals(1, stream.getSubscriberCount());
+        stream.onUserChanged(created(6));
+        stream.onUserChanged(created(7));
+        assertEquals(1, stream.getSubscriberCount());
+        stream.onUserChanged(created(8));
+        assertEquals(0, stream.getSubscriberCount());
+
+        stream.shutdown();
+    }
+
+    private static UserChangedEvent created(long seq) {
+        User user = new User("John", "Doe", "john" + seq + "@test.com", 30, "Engineering");
+        user.setId(seq);
+        user.setChangeSeq(seq);
+        return UserChangedEvent.created(user);
+    }
+
+    private static final class PausedExecutor extends AbstractExecutorService {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return tasks;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+    }
+}
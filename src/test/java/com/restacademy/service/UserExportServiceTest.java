@@ -0,0 +1,59 @@
+package com.restacademy.service;
+
+import com.restacademy.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class UserExportServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void linkForDownload_ShouldOutliveEvictionOfTheJobUntilTheGracePeriodEnds() throws Exception {
+        UserExportWorker worker = mock(UserExportWorker.class);
+        doAnswer(invocation -> {
+            ExportJob job = invocation.getArgument(0);
+            try {
+                Files.writeString(job.getFile(), "id,email\n1,john@test.com\n");
+                job.markCompleted(Files.size(job.getFile()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        }).when(worker).run(any());
+        UserExportService service = new UserExportService(worker, directory, 1, Duration.ofMillis(200));
+        try {
+            String jobId = service.startExport(ExportJob.Format.CSV, false).getJobId();
+            ExportJob job = service.beginDownload(jobId);
+            Path link = service.linkForDownload(job).orElseThrow();
+            job.endDownload();
+
+            // The next export evicts the job and deletes its file; the download's link still has the data
+            service.startExport(ExportJob.Format.CSV, false);
+            assertThrows(ResourceNotFoundException.class, () -> service.beginDownload(jobId));
+            assertFalse(Files.exists(job.getFile()));
+            assertEquals("id,email\n1,john@test.com\n", Files.readString(link));
+
+            for (int attempt = 0; attempt < 100 && Files.exists(link); attempt++) {
+                Thread.sleep(50);
+            }
+            assertFalse(Files.exists(link));
+        } finally {
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.restacademy.service;
+
+import com.restacademy.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class UserImportServiceTest {
+
+    @TempDir
+    Path workDirectory;
+
+    @Test
+    void startImport_WhenJobQueueIsFull_ShouldDiscardJobAndUpload() throws Exception {
+        UserImportWorker worker = mock(UserImportWorker.class);
+        doThrow(new TaskRejectedException("Job queue is full")).when(worker).run(any());
+        UserImportService service = new UserImportService(worker, workDirectory, 50);
+
+        assertThrows(TaskRejectedException.class, () -> service.startImport(
+            new ByteArrayInputStream("firstName,lastName,email,age\n".getBytes(StandardCharsets.UTF_8)),
+            ImportJob.Format.CSV));
+
+        ArgumentCaptor<ImportJob> job = ArgumentCaptor.forClass(ImportJob.class);
+        verify(worker).run(job.capture());
+        assertThrows(ResourceNotFoundException.class, () -> service.getStatus(job.getValue().getId()));
+        try (var files = Files.list(workDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
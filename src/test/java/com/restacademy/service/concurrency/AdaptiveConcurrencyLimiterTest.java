@@ -0,0 +1,80 @@
+package com.restacademy.service.concurrency;
+
+import com.restacademy.config.ConcurrencyLimitProperties;
+import com.restacademy.service.concurrency.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private long now;
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(4);
+        properties.setMaxLimit(200);
+        properties.setWindow(Duration.ofMillis(100));
+        properties.setMinWindowSamples(10);
+        return new AdaptiveConcurrencyLimiter(properties, () -> now);
+    }
+
+    @Test
+    void tryAcquire_ShouldShedBulkBeforeNormalBeforeCritical() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 6; i++) {
+            assertTrue(limiter.tryAcquire(Priority.BULK) >= 0);
+        }
+        assertEquals(-1, limiter.tryAcquire(Priority.BULK));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(Priority.NORMAL) >= 0);
+        }
+        assertEquals(-1, limiter.tryAcquire(Priority.NORMAL));
+        assertTrue(limiter.tryAcquire(Priority.CRITICAL) >= 0);
+        assertEquals(-1, limiter.tryAcquire(Priority.CRITICAL));
+        assertEquals(10, limiter.getInFlight());
+
+        long start = now;
+        limiter.release(start, true);
+        assertTrue(limiter.tryAcquire(Priority.CRITICAL) >= 0);
+    }
+
+    @Test
+    void release_ShouldGrowLimitWhileLatencyIsStableAndShrinkWhenItRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        // Saturating load at a steady 10 ms per request
+        for (int window = 0; window < 20; window++) {
+            runWindow(limiter, limiter.getLimit(), 10 * MILLI);
+        }
+        int grown = limiter.getLimit();
+        assertTrue(grown >= 30, "limit should grow, was " + grown);
+
+        // The database slows down: latency quadruples
+        for (int window = 0; window < 10; window++) {
+            runWindow(limiter, limiter.getLimit(), 40 * MILLI);
+        }
+        assertTrue(limiter.getLimit() < grown * 3 / 4, "limit should shrink, was " + limiter.getLimit());
+    }
+
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long latency) {
+        long[] starts = new long[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            starts[i] = limiter.tryAcquire(Priority.CRITICAL);
+        }
+        now += Math.max(latency, 100 * MILLI);
+        for (int i = 0; i < concurrency; i++) {
+            if (starts[i] >= 0) {
+                limiter.release(now - latency, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.restacademy.service.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenRefillEvenly() {
+        TokenBucket bucket = new TokenBucket(5, 10 * SECOND, 0);
+
+        for (int i = 4; i >= 0; i--) {
+            TokenBucket.Decision decision = bucket.tryAcquire(0);
+            assertTrue(decision.allowed());
+            assertEquals(i, decision.remaining());
+        }
+        TokenBucket.Decision rejected = bucket.tryAcquire(0);
+        assertFalse(rejected.allowed());
+        assertEquals(2 * SECOND, rejected.retryAfterNanos());
+        assertEquals(10 * SECOND, rejected.resetNanos());
+
+        // One token every 2 s
+        assertFalse(bucket.tryAcquire(2 * SECOND - 1).allowed());
+        assertTrue(bucket.tryAcquire(2 * SECOND).allowed());
+        assertFalse(bucket.tryAcquire(2 * SECOND).allowed());
+
+        assertFalse(bucket.isIdle(12 * SECOND, 0));
+        assertTrue(bucket.isIdle(12 * SECOND + 1, 0));
+        assertEquals(4, bucket.tryAcquire(100 * SECOND).remaining());
+    }
+
+    @Test
+    void tryAcquire_UnderContention_ShouldGrantExactlyCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(1000, 1000 * SECOND, 0);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 500; i++) {
+                    if (bucket.tryAcquire(0).allowed()) {
+                        granted.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        executor.shutdown();
+        assertEquals(1000, granted.get());
+    }
+}
@@ -0,0 +1,49 @@
+package com.restacademy.service.snapshot;
+
+import com.restacademy.service.ChangeSequencer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserSnapshotServiceTest {
+
+    @Test
+    void restore_ShouldAdvanceSequencesBeforeLoadingRows(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("users.zip");
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("users-00000.csv"));
+            zip.write("ID,CHANGE_SEQ\n1000,77\n".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry(UserSnapshotService.MANIFEST));
+            zip.write("users=1\nmax-id=1000\nmax-change-seq=77\n".getBytes(StandardCharsets.UTF_8));
+        }
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ChangeSequencer changeSequencer = mock(ChangeSequencer.class);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)).thenReturn(0L);
+        when(jdbcTemplate.update(startsWith("INSERT INTO users"))).thenReturn(1);
+        UserSnapshotService service = new UserSnapshotService(jdbcTemplate, changeSequencer,
+            mock(PlatformTransactionManager.class));
+
+        assertEquals(1, service.restore(file));
+
+        // Writes made while the rows load must already get ids and sequence numbers past the snapshot
+        InOrder order = inOrder(jdbcTemplate, changeSequencer);
+        order.verify(jdbcTemplate).execute("ALTER SEQUENCE users_seq RESTART WITH 1051");
+        order.verify(changeSequencer).advanceTo(77);
+        order.verify(jdbcTemplate).update(startsWith("INSERT INTO users"));
+    }
+}